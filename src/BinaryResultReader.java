@@ -0,0 +1,130 @@
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class BinaryResultReader implements Closeable {
+    private final FileChannel channel;
+    private final Map<String, Long> positions; // record positions by the puzzle identifier
+
+    /**
+     * Binary result reader constructor, loads the index of the store
+     * @param path binary result store
+     * @throws IOException if the file cannot be read or it is not a binary result store
+     */
+    public BinaryResultReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.positions = readIndex();
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the header, the footer and the index of the store
+     * @return record positions by the puzzle identifier
+     * @throws IOException if the file cannot be read or it is not a binary result store
+     */
+    private Map<String, Long> readIndex() throws IOException {
+        long size = channel.size();
+        if (size < BinaryResultSink.HEADER_SIZE + BinaryResultSink.FOOTER_SIZE) {
+            throw new IOException("Not a binary result store: file is too short");
+        }
+
+        ByteBuffer header = readFully(BinaryResultSink.HEADER_SIZE, 0);
+        if (header.getInt() != BinaryResultSink.MAGIC || header.getInt() != BinaryResultSink.VERSION) {
+            throw new IOException("Not a binary result store: unknown header");
+        }
+
+        ByteBuffer footer = readFully(BinaryResultSink.FOOTER_SIZE, size - BinaryResultSink.FOOTER_SIZE);
+        long indexPosition = footer.getLong();
+        int puzzleCount = footer.getInt();
+        if (footer.getInt() != BinaryResultSink.MAGIC || indexPosition < BinaryResultSink.HEADER_SIZE
+                || indexPosition > size - BinaryResultSink.FOOTER_SIZE) {
+            throw new IOException("Not a binary result store: unknown footer");
+        }
+
+        ByteBuffer index = readFully((int)(size - BinaryResultSink.FOOTER_SIZE - indexPosition), indexPosition);
+        Map<String, Long> recordPositions = new HashMap<>();
+        for (int i = 0; i < puzzleCount; i++) {
+            byte[] idBytes = new byte[index.getShort() & BinaryResultSink.MAX_ID_LENGTH];
+            index.get(idBytes);
+            recordPositions.put(new String(idBytes, StandardCharsets.UTF_8), index.getLong());
+        }
+        return recordPositions;
+    }
+
+    /**
+     * Gets the identifiers of all the stored puzzles
+     * @return unmodifiable set of the identifiers
+     */
+    public Set<String> getPuzzleIds() {
+        return Collections.unmodifiableSet(positions.keySet());
+    }
+
+    /**
+     * Reads the layout of the puzzle without scanning the other records
+     * @param puzzleId identifier of the puzzle
+     * @param words words of the puzzle in the corpus order
+     * @return words in the grid coordinates, null if the puzzle is not stored
+     * @throws IOException if the record cannot be read or does not match the words
+     */
+    public List<CrosswordWord> read(String puzzleId, List<String> words) throws IOException {
+        Long position = positions.get(puzzleId);
+        if (position == null) {
+            return null;
+        }
+
+        int wordCount = readFully(2, position).getShort();
+        if (wordCount != words.size()) {
+            throw new IOException("Puzzle " + puzzleId + " has " + wordCount + " words, " + words.size() + " given");
+        }
+
+        ByteBuffer record = readFully(2 * wordCount, position + 2);
+        List<CrosswordWord> placedWords = new ArrayList<>(wordCount);
+        for (String word : words) {
+            placedWords.add(BinaryResultSink.unpack(word, record.getShort()));
+        }
+        return placedWords;
+    }
+
+    /**
+     * Reads the bytes at the given position of the store
+     * @param length number of bytes
+     * @param position position in the store
+     * @return buffer ready to get the bytes
+     * @throws IOException if the store ends before the requested bytes
+     */
+    private ByteBuffer readFully(int length, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new EOFException("Binary result store ends unexpectedly");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Closes the store
+     * @throws IOException if the store cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
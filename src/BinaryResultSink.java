@@ -0,0 +1,108 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Result store in the compact binary format.
+ * The header holds the magic number and the format version.
+ * Each record holds the number of words and a packed row, column and orientation per word,
+ * the words themselves are known from the corpus in the same order.
+ * The index of the record positions by the puzzle identifier and the footer end the store.
+ */
+public class BinaryResultSink extends BufferedResultSink {
+    static final int MAGIC = 0x43574742; // "CWGB" marking the store start and end
+    static final int VERSION = 1; // version of the binary format
+    static final int HEADER_SIZE = 8; // magic number and version
+    static final int FOOTER_SIZE = 16; // index position, number of records and magic number
+    static final int MAX_COORDINATE = 31; // largest row or column fitting the packed value
+    static final int MAX_ID_LENGTH = 0xFFFF; // largest identifier length in bytes, stored as an unsigned short
+    private final List<String> puzzleIds = new ArrayList<>(); // identifiers in the record order
+    private final List<Long> positions = new ArrayList<>(); // record positions in the store
+    private final Set<String> writtenIds = new HashSet<>(); // identifiers check for the duplicates
+
+    /**
+     * Binary result sink constructor, the existing file is overwritten
+     * @param path output store file
+     * @throws IOException if the file cannot be opened
+     */
+    public BinaryResultSink(Path path) throws IOException {
+        super(path);
+        reserve(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+    }
+
+    @Override
+    protected void writeRecord(String puzzleId, List<CrosswordWord> placedWords) throws IOException {
+        // The whole record is checked before changing the store, so a rejected record leaves no trace
+        if (writtenIds.contains(puzzleId)) {
+            throw new IllegalArgumentException("Duplicate puzzle identifier: " + puzzleId);
+        }
+        if (puzzleId.getBytes(StandardCharsets.UTF_8).length > MAX_ID_LENGTH) {
+            throw new IllegalArgumentException("Puzzle identifier is longer than " + MAX_ID_LENGTH + " bytes");
+        }
+        if (placedWords.size() > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many words in the puzzle: " + puzzleId);
+        }
+
+        short[] packedWords = new short[placedWords.size()];
+        for (int i = 0; i < packedWords.length; i++) {
+            packedWords[i] = pack(placedWords.get(i));
+        }
+
+        ByteBuffer buffer = reserve(2 + 2 * packedWords.length);
+        writtenIds.add(puzzleId);
+        puzzleIds.add(puzzleId);
+        positions.add(position());
+
+        buffer.putShort((short)packedWords.length);
+        for (short packed : packedWords) {
+            buffer.putShort(packed);
+        }
+    }
+
+    /**
+     * Writes the index and the footer
+     * @throws IOException if the index cannot be written
+     */
+    @Override
+    protected void finish() throws IOException {
+        long indexPosition = position();
+
+        for (int i = 0; i < puzzleIds.size(); i++) {
+            byte[] idBytes = puzzleIds.get(i).getBytes(StandardCharsets.UTF_8);
+            reserve(2 + idBytes.length + 8)
+                    .putShort((short)idBytes.length)
+                    .put(idBytes)
+                    .putLong(positions.get(i));
+        }
+
+        reserve(FOOTER_SIZE).putLong(indexPosition).putInt(puzzleIds.size()).putInt(MAGIC);
+    }
+
+    /**
+     * Packs the word placement into 11 bits: 5 bits of row, 5 bits of column and 1 bit of orientation
+     * @param word word in the grid coordinates
+     * @return packed placement
+     */
+    static short pack(CrosswordWord word) {
+        if (word.row < 0 || word.row > MAX_COORDINATE || word.col < 0 || word.col > MAX_COORDINATE
+                || (word.orientation != 0 && word.orientation != 1)) {
+            throw new IllegalArgumentException("Word '" + word.word + "' does not fit the packed format");
+        }
+        return (short)((word.row << 6) | (word.col << 1) | word.orientation);
+    }
+
+    /**
+     * Unpacks the word placement
+     * @param word text of the word
+     * @param packed packed placement
+     * @return word in the grid coordinates
+     */
+    static CrosswordWord unpack(String word, short packed) {
+        return new CrosswordWord(word, (packed >> 6) & MAX_COORDINATE, (packed >> 1) & MAX_COORDINATE, packed & 1);
+    }
+}
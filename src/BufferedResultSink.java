@@ -0,0 +1,103 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public abstract class BufferedResultSink implements ResultSink {
+    private static final int BUFFER_SIZE = 64 * 1024; // size of the batch written to the channel at once
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private long flushedBytes; // number of bytes already written to the channel
+
+    /**
+     * Buffered result sink constructor, the existing file is overwritten
+     * @param path output store file
+     * @throws IOException if the file cannot be opened
+     */
+    protected BufferedResultSink(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    /**
+     * Appends the solved layout to the batch, safe to call from the solver threads
+     * @param puzzleId identifier of the puzzle
+     * @param layout solved crossword layout
+     * @throws IOException if the batch cannot be written
+     */
+    @Override
+    public synchronized void write(String puzzleId, CrosswordLayout layout) throws IOException {
+        writeRecord(puzzleId, layout.getPlacedWords());
+    }
+
+    /**
+     * Encodes the record into the batch
+     * @param puzzleId identifier of the puzzle
+     * @param placedWords words in the grid coordinates
+     * @throws IOException if the batch cannot be written
+     */
+    protected abstract void writeRecord(String puzzleId, List<CrosswordWord> placedWords) throws IOException;
+
+    /**
+     * Writes the trailing data of the store before closing
+     * @throws IOException if the data cannot be written
+     */
+    protected void finish() throws IOException {
+    }
+
+    /**
+     * Gets the batch buffer having at least the requested free space.
+     * The full batch is written to the channel first.
+     *
+     * @param bytes number of bytes to put
+     * @return batch buffer
+     * @throws IOException if the batch cannot be written
+     */
+    protected ByteBuffer reserve(int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            flush();
+
+            // Growing the buffer for the records larger than a batch
+            if (buffer.capacity() < bytes) {
+                buffer = ByteBuffer.allocate(bytes);
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Gets the position in the store of the next written byte
+     * @return position in bytes
+     */
+    protected long position() {
+        return flushedBytes + buffer.position();
+    }
+
+    /**
+     * Writes the batch to the channel
+     * @throws IOException if the batch cannot be written
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            flushedBytes += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes the rest of the batch and closes the store
+     * @throws IOException if the store cannot be written
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            finish();
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
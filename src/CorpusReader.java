@@ -0,0 +1,150 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming reader of the corpus file holding many puzzles.
+ * Each record starts with a header line ">puzzle-id" followed by the puzzle words, one per line.
+ * Only the current record is kept in memory.
+ */
+public class CorpusReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024; // size of the channel read buffer
+    private static final char HEADER_PREFIX = '>'; // first char of the record header line
+    private static final Pattern PUZZLE_ID_PATTERN = Pattern.compile("[A-Za-z0-9_-][A-Za-z0-9_.-]*"); // allowed puzzle identifiers
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private byte[] lineBytes = new byte[256]; // storage for the bytes of the current line
+    private boolean endOfInput; // flag indicating the whole file is read
+    private int lineNumber; // number of the last read line
+    private String pendingPuzzleId; // header of the next record, read ahead
+
+    /**
+     * Corpus reader constructor
+     * @param path corpus file
+     * @throws IOException if the file cannot be opened
+     */
+    public CorpusReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        // The buffer is empty until the first read
+        buffer.flip();
+    }
+
+    /**
+     * Reads the next puzzle record
+     * @return next record, null if the corpus ends
+     * @throws IOException if the file cannot be read or the format is broken
+     */
+    public CorpusRecord next() throws IOException {
+        String puzzleId = pendingPuzzleId;
+        pendingPuzzleId = null;
+        List<String> words = new ArrayList<>();
+
+        String line;
+        while ((line = readLine()) != null) {
+            if (!line.isEmpty() && line.charAt(0) == HEADER_PREFIX) {
+                String headerId = parsePuzzleId(line);
+
+                // The header of the next record ends the current one
+                if (puzzleId != null) {
+                    pendingPuzzleId = headerId;
+                    break;
+                }
+                puzzleId = headerId;
+            } else if (puzzleId == null) {
+                if (!line.isBlank()) {
+                    throw new IOException("Line " + lineNumber + ": word outside of a puzzle record");
+                }
+            } else if (line.length() > 1) {
+                words.add(line);
+            }
+        }
+
+        if (puzzleId == null) {
+            return null;
+        }
+        return new CorpusRecord(puzzleId, words);
+    }
+
+    /**
+     * Parses the puzzle identifier from the header line
+     * @param line header line
+     * @return puzzle identifier
+     * @throws IOException if the identifier is not allowed
+     */
+    private String parsePuzzleId(String line) throws IOException {
+        String puzzleId = line.substring(1).trim();
+        if (!PUZZLE_ID_PATTERN.matcher(puzzleId).matches()) {
+            throw new IOException("Line " + lineNumber + ": invalid puzzle identifier '" + puzzleId + "'");
+        }
+        return puzzleId;
+    }
+
+    /**
+     * Reads the next line from the channel
+     * @return line without the line separator, null if the file ends
+     * @throws IOException if the file cannot be read
+     */
+    private String readLine() throws IOException {
+        int length = 0;
+        boolean hasChars = false;
+
+        while (true) {
+            // Refilling the buffer from the channel
+            if (!buffer.hasRemaining()) {
+                if (endOfInput) {
+                    break;
+                }
+                buffer.clear();
+                int read = channel.read(buffer);
+                buffer.flip();
+                if (read < 0) {
+                    endOfInput = true;
+                    break;
+                }
+                continue;
+            }
+
+            byte b = buffer.get();
+            hasChars = true;
+            if (b == '\n') {
+                break;
+            }
+
+            // Growing the line storage for the long lines
+            if (length == lineBytes.length) {
+                byte[] grown = new byte[lineBytes.length * 2];
+                System.arraycopy(lineBytes, 0, grown, 0, length);
+                lineBytes = grown;
+            }
+            lineBytes[length++] = b;
+        }
+
+        if (!hasChars) {
+            return null;
+        }
+        lineNumber++;
+
+        // Windows line separators
+        if (length > 0 && lineBytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(lineBytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Closes the corpus file
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,32 @@
+import java.util.List;
+
+public class CorpusRecord {
+    private final String puzzleId; // identifier of the puzzle in the corpus
+    private final List<String> words; // list of the puzzle words
+
+    /**
+     * Corpus record constructor
+     * @param puzzleId identifier of the puzzle in the corpus
+     * @param words list of the puzzle words
+     */
+    public CorpusRecord(String puzzleId, List<String> words) {
+        this.puzzleId = puzzleId;
+        this.words = List.copyOf(words);
+    }
+
+    /**
+     * Gets the identifier of the puzzle
+     * @return puzzle identifier
+     */
+    public String getPuzzleId() {
+        return puzzleId;
+    }
+
+    /**
+     * Gets the words of the puzzle
+     * @return unmodifiable list of the words
+     */
+    public List<String> getWords() {
+        return words;
+    }
+}
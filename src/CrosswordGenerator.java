@@ -0,0 +1,350 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+public class CrosswordGenerator {
+    private final List<String> words; // list of the crossword words
+    private final GeneratorOptions options; // genetic algorithm parameters
+    private final Random random = new Random(); // source of all the random choices of the solver, shared by its layouts
+
+    /**
+     * Crossword generator constructor
+     * @param words list of the crossword words
+     * @param options genetic algorithm parameters
+     */
+    public CrosswordGenerator(List<String> words, GeneratorOptions options) {
+        if (words.isEmpty()) {
+            throw new IllegalArgumentException("Word list must not be empty");
+        }
+        for (String word : words) {
+            if (word.length() > CrosswordLayout.GRID_SIZE) {
+                throw new IllegalArgumentException("Word '" + word + "' is longer than the grid size " + CrosswordLayout.GRID_SIZE);
+            }
+        }
+
+        // Defensive copy, so the caller may reuse the list
+        this.words = List.copyOf(words);
+        this.options = options;
+    }
+
+    /**
+     * Builds the crossword in the current thread within the options budget
+     * @return solve result with the valid or the best-so-far layout
+     */
+    public SolveResult generate() {
+        long deadlineMillis = System.currentTimeMillis() + options.getTimeoutMillis();
+        return solve(deadlineMillis, new CompletableFuture<>());
+    }
+
+    /**
+     * Builds the crossword asynchronously in the common pool
+     * @return future completed with the valid or the best-so-far layout
+     */
+    public CompletableFuture<SolveResult> generateAsync() {
+        return generateAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the crossword asynchronously.
+     * The time budget starts counting at the moment of the call.
+     * Cancelling the returned future stops the solver before the next generation.
+     *
+     * @param executor executor running the solver
+     * @return future completed with the valid or the best-so-far layout
+     */
+    public CompletableFuture<SolveResult> generateAsync(Executor executor) {
+        return generateAsync(System.currentTimeMillis() + options.getTimeoutMillis(), executor);
+    }
+
+    /**
+     * Builds the crossword asynchronously until the given wall-clock deadline.
+     * The deadline replaces the options time budget, so several generators may share
+     * the deadline of a batch. The generation budget of the options still applies.
+     * Cancelling the returned future stops the solver before the next generation.
+     *
+     * @param deadlineMillis wall-clock deadline in epoch milliseconds
+     * @param executor executor running the solver
+     * @return future completed with the valid or the best-so-far layout
+     */
+    public CompletableFuture<SolveResult> generateAsync(long deadlineMillis, Executor executor) {
+        CompletableFuture<SolveResult> future = new CompletableFuture<>();
+
+        executor.execute(() -> {
+            try {
+                SolveResult result = solve(deadlineMillis, future);
+                if (result != null) {
+                    future.complete(result);
+                }
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+
+        return future;
+    }
+
+    /**
+     * Runs the genetic algorithm until the valid layout is found or the budget runs out
+     * @param deadlineMillis wall-clock deadline in epoch milliseconds
+     * @param future future checked for the cancellation each generation
+     * @return solve result, null if cancelled
+     */
+    private SolveResult solve(long deadlineMillis, CompletableFuture<SolveResult> future) {
+        // The initial population initialization
+        List<CrosswordLayout> population = initializePopulation();
+
+        // Best layout over all the restarts
+        CrosswordLayout bestSoFar = getBestLayout(population).copy();
+
+        int generation = 0;
+        int iteration = 0;
+        long totalGenerations = 0;
+
+        // Staring the loop of finding the optimal solution
+        while (true) {
+            // Cooperative cancellation check
+            if (future.isDone()) {
+                return null;
+            }
+
+            // If the number of generations exceeds the allowed threshold
+            // the algorithm is being restarted, where iteration indicates
+            // the number of restarts
+            if (generation >= options.getRestartGeneration()) {
+                population = initializePopulation();
+                generation = 0;
+                iteration++;
+            }
+
+            // Getting the best layout from the population
+            CrosswordLayout bestLayout = getBestLayout(population);
+            if (bestLayout.getCurrentFitness() < bestSoFar.getCurrentFitness()) {
+                bestSoFar = bestLayout.copy();
+            }
+
+            // If the best layout reaches 0 fitness, the algorithm terminates
+            // providing the valid crossword layout
+            if (bestSoFar.getCurrentFitness() <= 0) {
+                break;
+            }
+
+            // If the budget runs out, the best-so-far layout is provided
+            if (totalGenerations >= options.getMaxGenerations() || System.currentTimeMillis() >= deadlineMillis) {
+                break;
+            }
+
+            // Producing new generation in case of absence the optimal solution
+            population = produceNewGeneration(population);
+            generation++;
+            totalGenerations++;
+
+            // Reporting the statistics, diversity is calculated only on demand
+            GenerationListener listener = options.getListener();
+            if (listener != null) {
+                listener.onGeneration(totalGenerations, getBestLayout(population).getCurrentFitness(),
+                        getAverageFitness(population), Diversity.averageDistance(population));
+            }
+        }
+
+        return new SolveResult(bestSoFar, bestSoFar.getCurrentFitness(), totalGenerations, iteration);
+    }
+
+    /**
+     * Produces new generation based on the current population and the replacement policy
+     * @param population current population
+     * @return new generation
+     */
+    private List<CrosswordLayout> produceNewGeneration(List<CrosswordLayout> population) {
+        switch (options.getReplacementPolicy()) {
+            case FITNESS_SHARING:
+                return produceOffspring(population, Diversity.sharedFitness(population, options.getSharingRadius()));
+            case DETERMINISTIC_CROWDING:
+                return crowdParents(population);
+            default:
+                return produceOffspring(population, getFitnessValues(population));
+        }
+    }
+
+    /**
+     * Produces new generation from the offspring of the tournament winners
+     * @param population current population
+     * @param scores selection scores in the population order, lower is better
+     * @return new generation
+     */
+    private List<CrosswordLayout> produceOffspring(List<CrosswordLayout> population, double[] scores) {
+        List<CrosswordLayout> newGeneration = new ArrayList<>();
+
+        // Adding random individual to introduce some diversity
+        // to the population
+        newGeneration.add(new CrosswordLayout(words, options.getFitnessEvaluator(), random));
+
+        for (int i = 1; i < options.getPopulationSize(); i++) {
+            // Parents selection
+            CrosswordLayout parent1 = selectParent(population, scores);
+            CrosswordLayout parent2 = selectParent(population, scores);
+
+            // Crossover
+            CrosswordLayout child = crossover(parent1, parent2);
+
+            // Mutation
+            mutate(child);
+
+            // Appending new generation with the new individual
+            newGeneration.add(child);
+        }
+
+        return newGeneration;
+    }
+
+    /**
+     * Produces new generation by the deterministic crowding.
+     * Random pairs of parents produce two children, each child competes
+     * with the closest parent and replaces it if not worse.
+     *
+     * @param population current population
+     * @return new generation
+     */
+    private List<CrosswordLayout> crowdParents(List<CrosswordLayout> population) {
+        List<CrosswordLayout> newGeneration = new ArrayList<>(population);
+        Collections.shuffle(newGeneration, random);
+
+        // The last parent of the odd population survives without competition
+        for (int i = 0; i + 1 < newGeneration.size(); i += 2) {
+            CrosswordLayout parent1 = newGeneration.get(i);
+            CrosswordLayout parent2 = newGeneration.get(i + 1);
+
+            CrosswordLayout child1 = crossover(parent1, parent2);
+            CrosswordLayout child2 = crossover(parent2, parent1);
+            mutate(child1);
+            mutate(child2);
+
+            // Pairing children with the parents minimizing the total distance
+            if (parent1.distance(child1) + parent2.distance(child2) <= parent1.distance(child2) + parent2.distance(child1)) {
+                newGeneration.set(i, compete(parent1, child1));
+                newGeneration.set(i + 1, compete(parent2, child2));
+            } else {
+                newGeneration.set(i, compete(parent1, child2));
+                newGeneration.set(i + 1, compete(parent2, child1));
+            }
+        }
+
+        return newGeneration;
+    }
+
+    /**
+     * Replacement competition between a parent and its child
+     * @param parent parent layout
+     * @param child child layout
+     * @return child if it is not worse than the parent, parent otherwise
+     */
+    private static CrosswordLayout compete(CrosswordLayout parent, CrosswordLayout child) {
+        return child.getCurrentFitness() <= parent.getCurrentFitness() ? child : parent;
+    }
+
+    /**
+     * Initializes population with the current list of words
+     * @return initial population
+     */
+    private List<CrosswordLayout> initializePopulation() {
+        List<CrosswordLayout> population = new ArrayList<>();
+        for (int i = 0; i < options.getPopulationSize(); i++) {
+            population.add(new CrosswordLayout(words, options.getFitnessEvaluator(), random));
+        }
+        return population;
+    }
+
+    /**
+     * Calculates the average fitness for the particular population
+     * @param population current population
+     * @return average fitness of the current population
+     */
+    private static double getAverageFitness(List<CrosswordLayout> population) {
+        int totalFitness = 0;
+
+        for (CrosswordLayout crosswordLayout : population) {
+            totalFitness += crosswordLayout.getCurrentFitness();
+        }
+
+        return (double)totalFitness / population.size();
+    }
+
+    /**
+     * Collects the raw fitness values as the selection scores
+     * @param population current population
+     * @return fitness values in the population order
+     */
+    private static double[] getFitnessValues(List<CrosswordLayout> population) {
+        double[] fitnessValues = new double[population.size()];
+        for (int i = 0; i < fitnessValues.length; i++) {
+            fitnessValues[i] = population.get(i).getCurrentFitness();
+        }
+        return fitnessValues;
+    }
+
+    /**
+     * Finding the best layout with the minimal fitness value
+     * @param population current population
+     * @return best current crossword layout
+     */
+    private static CrosswordLayout getBestLayout(List<CrosswordLayout> population) {
+        CrosswordLayout bestLayout = population.get(0);
+        for (CrosswordLayout layout : population) {
+            if (layout.getCurrentFitness() < bestLayout.getCurrentFitness()) {
+                bestLayout = layout;
+            }
+        }
+        return bestLayout;
+    }
+
+    /**
+     * Selects parent based on the roulette tournament principle.
+     * Random sample is chosen from the current population.
+     * The best individual from the sample have a right to become a parent.
+     * @param population current population
+     * @param scores selection scores in the population order, lower is better
+     * @return selected parent
+     */
+    private CrosswordLayout selectParent(List<CrosswordLayout> population, double[] scores) {
+        // Forming a sample tournament size based on tournament ratio
+        int tournamentSize = (int)(options.getPopulationSize() * options.getTournamentRatio());
+
+        // Selecting random species to the tournament
+        // Finding the optimal local layout
+        int bestIndex = random.nextInt(population.size());
+        for (int i = 1; i < tournamentSize; i++) {
+            int candidateIndex = random.nextInt(population.size());
+            if (scores[candidateIndex] < scores[bestIndex]) {
+                bestIndex = candidateIndex;
+            }
+        }
+        return population.get(bestIndex);
+    }
+
+    /**
+     * Crossover of two parents with a declared crossover rate
+     * @param parent1 1st parent layout
+     * @param parent2 2d parent layout
+     * @return offspring or the copy of the parent
+     */
+    private CrosswordLayout crossover(CrosswordLayout parent1, CrosswordLayout parent2) {
+        if (random.nextDouble() < options.getCrossoverRate()) {
+            return parent1.crossover(parent2, random);
+        } else {
+            return parent1.copy();
+        }
+    }
+
+    /**
+     * Mutation of the crossword with a declared mutation rate
+     * @param layout mutating crossword layout
+     */
+    private void mutate(CrosswordLayout layout) {
+        if (random.nextDouble() < options.getMutationRate()) {
+            layout.mutate(random);
+        }
+    }
+}
@@ -3,19 +3,28 @@ import java.util.List;
 import java.util.Random;
 
 public class CrosswordLayout {
-    private static final int PENALTY = 10; // penalty amount for the rules violation
-    private static final int GRID_SIZE = 20; // size of the layout
-    private static final char[][] grid = new char[GRID_SIZE][GRID_SIZE]; // the layout itself
-    private static final Random random = new Random();
-    public final List<CrosswordWord> words; // list of the current words in a crossword
+    static final int GRID_SIZE = 20; // size of the layout
+    private static final FitnessEvaluator DEFAULT_EVALUATOR = new ReferenceFitnessEvaluator(); // evaluator of the layouts created without one
+    public final List<CrosswordWord> words; // list of the current words, positions are relative to the first word
+    private final FitnessEvaluator evaluator; // evaluator of the fitness
     private int currentFitness; // cache storage for the fitness value
 
     /**
-     * Crossword layout constructor
+     * Crossword layout constructor with the reference fitness evaluator
      * @param inputWords list of the current words
      */
     public CrosswordLayout(List<String> inputWords) {
-        this.words = new ArrayList<>();
+        this(inputWords, DEFAULT_EVALUATOR, new Random());
+    }
+
+    /**
+     * Crossword layout constructor
+     * @param inputWords list of the current words
+     * @param evaluator evaluator of the fitness
+     * @param random source of the random placement, owned by the generator
+     */
+    public CrosswordLayout(List<String> inputWords, FitnessEvaluator evaluator, Random random) {
+        this(evaluator);
 
         // placing each word to the random position on the grid
         for (String word : inputWords) {
@@ -34,8 +43,20 @@ public class CrosswordLayout {
             words.add(new CrosswordWord(word, row, col, orientation));
         }
 
+        // Only the relative placement of the words matters
+        anchor();
+    }
+
+    /**
+     * Empty crossword layout constructor for the offspring and the copies
+     * @param evaluator evaluator of the fitness
+     */
+    private CrosswordLayout(FitnessEvaluator evaluator) {
+        this.words = new ArrayList<>();
+        this.evaluator = evaluator;
+
         // Indicate that fitness value was not calculated yet
-        currentFitness = -1;
+        this.currentFitness = -1;
     }
 
     /**
@@ -45,367 +66,196 @@ public class CrosswordLayout {
     public int getCurrentFitness() {
         // If the value is not in the cache, recalculate fitness
         if (this.currentFitness < 0) {
-            this.currentFitness = this.calculateFitness();
+            this.currentFitness = evaluator.evaluate(this);
         }
 
         return this.currentFitness;
     }
 
     /**
-     * Clears the grid from the words
-     */
-    private void resetGrid() {
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
-                grid[i][j] = '-';
-            }
-        }
-    }
-
-    /**
-     * Calculates fitness of the current crossword
-     * @return fitness of the current crossword
+     * Crossover of the two parents
+     * @param partner partner layout
+     * @param random source of the genes choice, owned by the generator
+     * @return offspring
      */
-    private int calculateFitness() {
-        int fitness = 0;
+    public CrosswordLayout crossover(CrosswordLayout partner, Random random) {
+        // Offspring initialization
+        CrosswordLayout child = new CrosswordLayout(evaluator);
 
-        fitness += overlapCheck(); // penalty for the overlapping words
-        fitness += connectivityCheck(); // penalty for each disconnected part
-        fitness += neighbouringWordsCheck(); // penalty for wrongly adjacent words
+        // Aligning the partner with the current layout
+        int[] shift = getAlignmentShift(partner);
 
-        return fitness;
-    }
+        // Traverse through the word list
+        for (int i = 0; i < words.size(); i++) {
+            CrosswordWord parent1Word = this.words.get(i);
+            CrosswordWord parent2Word = partner.words.get(i);
 
-    /**
-     * Checks if the current coordinate in the bounds of grid
-     * @param row rows coordinate
-     * @param col columns coordinate
-     * @return true if the char in bounds, false otherwise
-     */
-    private boolean charInBounds(int row, int col) {
-        return row >= 0 && row < GRID_SIZE && col >= 0 && col < GRID_SIZE;
-    }
+            // Randomly pick a parent of the current gene (word)
+            boolean wordParen = random.nextBoolean();
 
-    /**
-     * Searches for the word by given parameters
-     * @param row rows coordinate
-     * @param col columns coordinate
-     * @param orientation orientation of the word
-     * @return word corresponding to the parameters, null if not found
-     */
-    private CrosswordWord getWordByCoordinates(int row, int col, int orientation) {
-        for (CrosswordWord word: words) {
-            if (word.row == row && word.col == col && word.orientation == orientation) {
-                return word;
-            }
+            // Copy parameters to the child word list
+            int row = wordParen ? parent1Word.row : parent2Word.row + shift[0];
+            int col = wordParen ? parent1Word.col : parent2Word.col + shift[1];
+            int orientation = wordParen ? parent1Word.orientation : parent2Word.orientation;
+            child.words.add(new CrosswordWord(parent1Word.word, row, col, orientation));
         }
 
-        return null;
+        // Keeping the first word as the anchor of the mixed genes
+        child.anchor();
+
+        return child;
     }
 
     /**
-     * Checks for existence of the crossing word.
-     * Goes to the start of the neighbouring words and checks if the unifying word exists.
+     * Finds the shift of the partner layout matching the most of the words with the current layout.
+     * The layouts may differ by a shift after the mutation of the anchor word.
      *
-     * @param currentWord word, having a neighbour
-     * @param isFirstChar flag indicating the position of the word search
-     * @return true if the crossing word exists, false otherwise
+     * @param partner partner layout
+     * @return shift by rows and columns, (0; 0) if no words match
      */
-    private boolean isCrossingWordAbsent(CrosswordWord currentWord, boolean isFirstChar) {
-        int row;
-        int col;
-        // If the current word is horizontal, the vertical crossing word is needed
-        if (currentWord.orientation == 0) {
-            row = currentWord.row - 1;
-            if (isFirstChar) {
-                col = currentWord.col;
-            } else {
-                col = currentWord.col + currentWord.word.length() - 1;
+    private int[] getAlignmentShift(CrosswordLayout partner) {
+        int[] bestShift = new int[] {0, 0};
+        int bestMatches = 0;
+
+        // The shift first met at the word i matches only the words from i on,
+        // so the search stops when they cannot outnumber the best matches
+        for (int i = 0; i < words.size() - bestMatches; i++) {
+            CrosswordWord word = this.words.get(i);
+            CrosswordWord partnerWord = partner.words.get(i);
+            if (word.orientation != partnerWord.orientation) {
+                continue;
             }
 
-            while (charInBounds(row, col) && grid[row][col] != '-') {
-                CrosswordWord crossingWord = getWordByCoordinates(row, col, 1);
-
-                if (crossingWord != null && (crossingWord.row + crossingWord.word.length() - 1) >= currentWord.row) {
-                    return false;
+            // Counting the words placed with the same shift
+            int rowShift = word.row - partnerWord.row;
+            int colShift = word.col - partnerWord.col;
+            int matches = 0;
+            for (int j = 0; j < words.size(); j++) {
+                CrosswordWord otherWord = this.words.get(j);
+                CrosswordWord otherPartnerWord = partner.words.get(j);
+                if (otherWord.orientation == otherPartnerWord.orientation
+                        && otherWord.row - otherPartnerWord.row == rowShift
+                        && otherWord.col - otherPartnerWord.col == colShift) {
+                    // The shift is already counted from the earlier word
+                    if (j < i) {
+                        matches = 0;
+                        break;
+                    }
+                    matches++;
                 }
-
-                row -= 1;
             }
 
-        } else { // if the current word is vertical, the horizontal crossing word is needed
-            if (isFirstChar) {
-                row = currentWord.row;
-            } else {
-                row = currentWord.row + currentWord.word.length() - 1;
+            if (matches > bestMatches) {
+                bestMatches = matches;
+                bestShift[0] = rowShift;
+                bestShift[1] = colShift;
             }
-
-            col = currentWord.col - 1;
-            while (charInBounds(row, col) && grid[row][col] != '-') {
-                CrosswordWord crossingWord = getWordByCoordinates(row, col, 0);
-
-                if (crossingWord != null && (crossingWord.col + crossingWord.word.length() - 1) >= currentWord.col) {
-                    return false;
-                }
-
-                col -= 1;
-            }
-
         }
 
-        return true;
+        return bestShift;
     }
 
     /**
-     * Neighbouring words validation
-     * @return penalty value for the invalid words neighborhood
+     * Mutating the current individual
+     * @param random source of the new placement, owned by the generator
      */
-    private int neighbouringWordsCheck() {
-        int penalty = 0;
-
-        for (CrosswordWord word : words) {
-            char[] charArray = word.word.toCharArray();
+    public void mutate(Random random) {
+        // Select random gene (word)
+        int wordIndex = random.nextInt(words.size());
+        CrosswordWord word = words.get(wordIndex);
 
-            // Counters of adjacent chars by all the directions
-            int adjCharCounterSideUp = 0;
-            int adjCharCounterSideDown = 0;
-            int adjCharCounterSideLeft = 0;
-            int adjCharCounterSideRight = 0;
-
-            for (int charIdx = 0; charIdx < charArray.length; charIdx++) {
-                int row;
-                int col;
-
-                // If the word is horizontal
-                if (word.orientation == 0) {
-                    row = word.row; // row is constant
-                    col = word.col + charIdx; // traverse through the columns
-
-                    if (charInBounds(row, col)) {
-                        // First char check
-                        if (charIdx == 0) {
-                            // Check for the adjacent word from the left side
-                            if (charInBounds(row, col - 1) && grid[row][col - 1] != '-') {
-                                penalty += PENALTY; // penalty for adjacent word from the left
-                            }
-
-                            // Check for correctness neighbour from the top, if exists
-                            if (charInBounds(row - 1, col) && grid[row - 1][col] != '-') {
-                                if (isCrossingWordAbsent(word, true)) {
-                                    penalty += PENALTY; // penalty for the forming new word
-                                }
-                            }
-                        }
-                        // Last char check
-                        else if (charIdx == charArray.length - 1) {
-                            // Check for the adjacent word from the right side
-                            if (charInBounds(row, col + 1) && grid[row][col + 1] != '-') {
-                                penalty += PENALTY; // penalty for adjacent word from the right
-                            }
-
-                            // Check for correctness neighbour from the top, if exists
-                            if (charInBounds(row - 1, col) && grid[row - 1][col] != '-') {
-                                if (isCrossingWordAbsent(word, false)) {
-                                    penalty += PENALTY; // penalty for the forming new word
-                                }
-                            }
-                        }
-
-                        // Parallel words check
-                        if (charInBounds(row - 1, col) && grid[row - 1][col] != '-') {
-                            adjCharCounterSideUp++; // increment counter of adjacent chars from the upside
-                            if (adjCharCounterSideUp > 1) {
-                                penalty += PENALTY; // penalty for the upside adjacent word
-                            }
-                        } else if (charInBounds(row - 1, col) && grid[row - 1][col] == '-') {
-                            adjCharCounterSideUp = 0; // resetting counter if no adjacent chars
-                        }
-                        if (charInBounds(row + 1, col) && grid[row + 1][col] != '-') {
-                            adjCharCounterSideDown++; // increment counter of adjacent chars from the downside
-                            if (adjCharCounterSideDown > 1) {
-                                penalty += PENALTY; // penalty for the downside adjacent word
-                            }
-                        } else if (charInBounds(row + 1, col) && grid[row + 1][col] == '-') {
-                            adjCharCounterSideDown = 0; // resetting counter if no adjacent chars
-                        }
-                    }
-                } else { // if the word is vertical
-                    row = word.row + charIdx; // traverse through the rows
-                    col = word.col; // column is constant
-
-                    if (charInBounds(row, col)) {
-                        // First char check
-                        if (charIdx == 0) {
-                            // Check for the adjacent word from the upside
-                            if (charInBounds(row - 1, col) && grid[row - 1][col] != '-') {
-                                penalty += PENALTY; // penalty for adjacent word from the upside
-                            }
-
-                            // Check for correctness neighbour from the left, if exists
-                            if (charInBounds(row, col - 1) && grid[row][col - 1] != '-') {
-                                if (isCrossingWordAbsent(word, true)) {
-                                    penalty += PENALTY; // penalty for the forming new word
-                                }
-                            }
-                        }
-                        // Last char check
-                        else if (charIdx == charArray.length - 1) {
-                            // Check for the adjacent word from the downside
-                            if (charInBounds(row + 1, col) && grid[row + 1][col] != '-') {
-                                penalty += PENALTY; // penalty for adjacent word from the downside
-                            }
-
-                            // Check for correctness neighbour from the left, if exists
-                            if (charInBounds(row, col - 1) && grid[row][col - 1] != '-') {
-                                if (isCrossingWordAbsent(word, false)) {
-                                    penalty += PENALTY; // penalty for the forming new word
-                                }
-                            }
-                        }
-
-                        // Parallel check
-                        if (charInBounds(row, col - 1) && grid[row][col - 1] != '-') {
-                            adjCharCounterSideLeft++; // increment counter of adjacent chars from the left side
-                            if (adjCharCounterSideLeft > 1) {
-                                penalty += PENALTY; // penalty for the left side adjacent word
-                            }
-                        } else if (charInBounds(row, col - 1) && grid[row][col - 1] == '-') {
-                            adjCharCounterSideLeft = 0; // resetting counter if no adjacent chars
-                        }
-                        if (charInBounds(row, col + 1) && grid[row][col + 1] != '-') {
-                            adjCharCounterSideRight++; // increment counter of adjacent chars from the right side
-                            if (adjCharCounterSideRight > 1) {
-                                penalty += PENALTY; // penalty for the right adjacent word
-                            }
-                        } else if (charInBounds(row, col + 1) && grid[row][col + 1] == '-') {
-                            adjCharCounterSideRight = 0; // resetting counter if no adjacent chars
-                        }
-                    }
-                }
-            }
+        // Bounding box of the layout
+        int minRow = 0;
+        int minCol = 0;
+        int maxRow = 0;
+        int maxCol = 0;
+        for (CrosswordWord otherWord : words) {
+            minRow = Math.min(minRow, otherWord.row);
+            minCol = Math.min(minCol, otherWord.col);
+            maxRow = Math.max(maxRow, otherWord.row + (otherWord.orientation == 0 ? 0 : otherWord.word.length() - 1));
+            maxCol = Math.max(maxCol, otherWord.col + (otherWord.orientation == 1 ? 0 : otherWord.word.length() - 1));
         }
 
-        return penalty;
-    }
-
-    /**
-     * Checks for the overlapping words
-     * @return penalty value for the overlapping words
-     */
-    private int overlapCheck() {
-        int penalty = 0;
-        resetGrid();
+        // Top left corner of the grid, having the layout in its center
+        minRow -= (GRID_SIZE - (maxRow - minRow + 1)) / 2;
+        minCol -= (GRID_SIZE - (maxCol - minCol + 1)) / 2;
 
-        // Traverse though the word list and find the wrong overlaps
-        for (CrosswordWord word : words) {
-            char[] charArray = word.word.toCharArray();
-            for (int i = 0; i < charArray.length; i++) {
-                int row = word.row + (word.orientation == 0 ? 0 : i);
-                int col = word.col + (word.orientation == 1 ? 0 : i);
-
-                if (charInBounds(row, col)) {
-                    // Compare the value on the grid with the current word character
-                    if (grid[row][col] != '-' && grid[row][col] != charArray[i]) {
-                        penalty += PENALTY; // Penalty for overlapping different characters
-                    }
-                    grid[row][col] = charArray[i]; // appending the grid with a new char
-                }
-            }
+        // Randomly change word's position or orientation in the grid coordinates
+        word.orientation = random.nextInt(2);
+        if (word.orientation == 0) {
+            word.col = minCol + random.nextInt(GRID_SIZE - word.word.length() + 1);
+            word.row = minRow + random.nextInt(GRID_SIZE);
+        } else {
+            word.col = minCol + random.nextInt(GRID_SIZE);
+            word.row = minRow + random.nextInt(GRID_SIZE - word.word.length() + 1);
         }
 
-        return penalty;
-    }
+        // Moving the anchor word means shifting the rest of the layout
+        anchor();
 
-    /**
-     * Checks for the connectivity of the words
-     * @return penalty value for the separated parts of the crossword
-     */
-    private int connectivityCheck() {
-        boolean[][] visited = new boolean[GRID_SIZE][GRID_SIZE];
-        int connectedComponents = 0;
-
-        // DFS algorithm usage to determine the number of separate components
-        for (int i = 0; i < GRID_SIZE; i++) {
-            for (int j = 0; j < GRID_SIZE; j++) {
-                if (!visited[i][j] && grid[i][j] != '-') {
-                    dfs(i, j, visited);
-                    connectedComponents++;
-                }
-            }
-        }
-
-        // If crossword consists of more than one separated components,
-        // give penalty per each component.
-        return connectedComponents > 1 ? connectedComponents * PENALTY : 0;
+        // Update fitness, indicating the need for recalculation
+        this.currentFitness = -1;
     }
 
     /**
-     * DFS algorithm helping to determining the crossword connectivity
-     * @param row rows coordinate
-     * @param col columns coordinate
-     * @param visited array of visited cells
+     * Shifts the whole layout, so that the first word starts at (0; 0).
+     * Layouts differing only by a shift share the same encoding.
      */
-    private void dfs(int row, int col, boolean[][] visited) {
-        if (!charInBounds(row, col) || visited[row][col] || grid[row][col] == '-') {
+    private void anchor() {
+        if (words.isEmpty()) {
             return;
         }
 
-        visited[row][col] = true;
-
-        // Move in all four directions
-        dfs(row - 1, col, visited);
-        dfs(row + 1, col, visited);
-        dfs(row, col - 1, visited);
-        dfs(row, col + 1, visited);
+        int anchorRow = words.get(0).row;
+        int anchorCol = words.get(0).col;
+        for (CrosswordWord word : words) {
+            word.row -= anchorRow;
+            word.col -= anchorCol;
+        }
     }
 
     /**
-     * Crossover of the two parents
-     * @param partner partner layout
-     * @return offspring
+     * Shifts the words into the grid, so that their bounding box starts at the top left corner
+     * @return list of the shifted words in the grid coordinates
      */
-    public CrosswordLayout crossover(CrosswordLayout partner) {
-        // Offspring initialization
-        CrosswordLayout child = new CrosswordLayout(new ArrayList<>());
-
-        // Traverse through the word list
-        for (int i = 0; i < words.size(); i++) {
-            CrosswordWord parent1Word = this.words.get(i);
-            CrosswordWord parent2Word = partner.words.get(i);
-
-            // Randomly pick a parent of the current gene (word)
-            boolean wordParen = random.nextBoolean();
-
-            // Copy parameters to the child word list
-            int row = wordParen ? parent1Word.row : parent2Word.row;
-            int col = wordParen ? parent1Word.col : parent2Word.col;
-            int orientation = wordParen ? parent1Word.orientation : parent2Word.orientation;
-            child.words.add(new CrosswordWord(parent1Word.word, row, col, orientation));
+    public List<CrosswordWord> getPlacedWords() {
+        int minRow = 0;
+        int minCol = 0;
+        for (CrosswordWord word : words) {
+            minRow = Math.min(minRow, word.row);
+            minCol = Math.min(minCol, word.col);
         }
 
-        return child;
+        List<CrosswordWord> placed = new ArrayList<>(words.size());
+        for (CrosswordWord word : words) {
+            placed.add(new CrosswordWord(word.word, word.row - minRow, word.col - minCol, word.orientation));
+        }
+        return placed;
     }
 
     /**
-     * Mutating the current individual
+     * Genome distance between two layouts of the same word list.
+     * Counts the words having a different position or orientation, after aligning the other layout
+     * with the current one, so that moving the anchor word counts as a single word.
+     *
+     * @param other layout to compare with
+     * @return number of differently placed words
      */
-    public void mutate() {
-        // Select random gene (word)
-        int wordIndex = random.nextInt(words.size());
-        CrosswordWord word = words.get(wordIndex);
+    public int distance(CrosswordLayout other) {
+        // Aligning the other layout with the current layout
+        int[] shift = getAlignmentShift(other);
 
-        // Randomly change word's position or orientation
-        word.orientation = random.nextInt(2);
-        if (word.orientation == 0) {
-            word.col = random.nextInt(GRID_SIZE - word.word.length() + 1);
-            word.row = random.nextInt(GRID_SIZE);
-        } else {
-            word.col = random.nextInt(GRID_SIZE);
-            word.row = random.nextInt(GRID_SIZE - word.word.length() + 1);
-        }
+        int distance = 0;
+        for (int i = 0; i < words.size(); i++) {
+            CrosswordWord word = this.words.get(i);
+            CrosswordWord otherWord = other.words.get(i);
 
-        // Update fitness, indicating the need for recalculation
-        this.currentFitness = -1;
+            if (word.row != otherWord.row + shift[0] || word.col != otherWord.col + shift[1]
+                    || word.orientation != otherWord.orientation) {
+                distance++;
+            }
+        }
+        return distance;
     }
 
     /**
@@ -413,7 +263,7 @@ public class CrosswordLayout {
      * @return copy of the current crossword
      */
     public CrosswordLayout copy() {
-        CrosswordLayout copy = new CrosswordLayout(new ArrayList<>());
+        CrosswordLayout copy = new CrosswordLayout(evaluator);
         for (CrosswordWord word : words) {
             copy.words.add(new CrosswordWord(word.word, word.row, word.col, word.orientation));
         }
@@ -433,7 +283,7 @@ public class CrosswordLayout {
         }
 
         // Words placing
-        for (CrosswordWord word : words) {
+        for (CrosswordWord word : getPlacedWords()) {
             char[] charArray = word.word.toCharArray();
             for (int i = 0; i < charArray.length; i++) {
                 int row = word.row + (word.orientation == 0 ? 0 : i);
@@ -0,0 +1,69 @@
+import java.util.List;
+
+public final class Diversity {
+    private Diversity() {
+    }
+
+    /**
+     * Calculates the average normalized distance between all pairs of the layouts
+     * @param population current population
+     * @return diversity value from 0 (identical layouts) to 1 (no common genes)
+     */
+    public static double averageDistance(List<CrosswordLayout> population) {
+        int size = population.size();
+        if (size < 2) {
+            return 0;
+        }
+
+        long totalDistance = 0;
+        for (int i = 0; i < size; i++) {
+            CrosswordLayout layout = population.get(i);
+            for (int j = i + 1; j < size; j++) {
+                totalDistance += layout.distance(population.get(j));
+            }
+        }
+
+        long pairs = (long)size * (size - 1) / 2;
+        int wordCount = population.get(0).words.size();
+        return (double)totalDistance / pairs / wordCount;
+    }
+
+    /**
+     * Calculates the shared fitness for each layout of the population.
+     * The fitness is multiplied by the niche count, i.e. the number of layouts
+     * within the sharing radius weighted by their closeness.
+     *
+     * @param population current population
+     * @param sharingRadius normalized distance, beyond which layouts do not share fitness
+     * @return shared fitness values in the population order
+     */
+    public static double[] sharedFitness(List<CrosswordLayout> population, double sharingRadius) {
+        int size = population.size();
+        int wordCount = population.get(0).words.size();
+        double[] nicheCounts = new double[size];
+
+        // Each layout is in its own niche
+        for (int i = 0; i < size; i++) {
+            nicheCounts[i] = 1;
+        }
+
+        // Triangular sharing function, the distance is symmetric
+        for (int i = 0; i < size; i++) {
+            CrosswordLayout layout = population.get(i);
+            for (int j = i + 1; j < size; j++) {
+                double distance = (double)layout.distance(population.get(j)) / wordCount;
+                if (distance < sharingRadius) {
+                    double share = 1 - distance / sharingRadius;
+                    nicheCounts[i] += share;
+                    nicheCounts[j] += share;
+                }
+            }
+        }
+
+        double[] sharedFitness = new double[size];
+        for (int i = 0; i < size; i++) {
+            sharedFitness[i] = population.get(i).getCurrentFitness() * nicheCounts[i];
+        }
+        return sharedFitness;
+    }
+}
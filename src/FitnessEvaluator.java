@@ -0,0 +1,19 @@
+import java.util.List;
+
+public interface FitnessEvaluator {
+    /**
+     * Calculates the penalty for the rules violations of the words placed in the grid
+     * @param placedWords words in the grid coordinates
+     * @return penalty value, 0 for the valid crossword
+     */
+    int evaluate(List<CrosswordWord> placedWords);
+
+    /**
+     * Calculates the penalty for the rules violations of the layout
+     * @param layout crossword layout
+     * @return penalty value, 0 for the valid crossword
+     */
+    default int evaluate(CrosswordLayout layout) {
+        return evaluate(layout.getPlacedWords());
+    }
+}
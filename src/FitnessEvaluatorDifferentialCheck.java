@@ -0,0 +1,109 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Differential check of the fitness evaluators.
+ * Random layouts, including the words out of the grid, the overlapping and crossing words,
+ * the words sharing the first cell and the words with the '-' chars, are evaluated by
+ * ReferenceFitnessEvaluator and RowScanFitnessEvaluator, which must return the same penalty.
+ */
+public class FitnessEvaluatorDifferentialCheck {
+    private static final int GRID_SIZE = CrosswordLayout.GRID_SIZE; // size of the layout
+    private static final int DEFAULT_LAYOUT_COUNT = 500000; // number of the checked layouts without the argument
+    private static final int MAX_WORD_COUNT = 12; // largest number of the words in a layout
+    private static final int MAX_WORD_LENGTH = 12; // largest length of a word
+    private static final int OUT_OF_GRID_MARGIN = 4; // distance beyond the grid border reached by the word starts
+    private static final String ALPHABET = "abc-"; // few chars, so the overlapping words often match
+
+    /**
+     * Runs the check, the process exits with status 1 on the first mismatch
+     * @param args Command line arguments: optional number of layouts and optional random seed
+     */
+    public static void main(String[] args) {
+        int layoutCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_LAYOUT_COUNT;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        Random random = new Random(seed);
+
+        FitnessEvaluator reference = new ReferenceFitnessEvaluator();
+        FitnessEvaluator rowScan = new RowScanFitnessEvaluator();
+
+        for (int i = 0; i < layoutCount; i++) {
+            List<CrosswordWord> placedWords = generateLayout(random);
+            int expected = reference.evaluate(placedWords);
+            int actual = rowScan.evaluate(placedWords);
+
+            if (expected != actual) {
+                System.out.println("Mismatch at layout " + i + " (seed " + seed + "): reference " + expected
+                        + ", row scan " + actual);
+                for (CrosswordWord word : placedWords) {
+                    System.out.println(word.row + " " + word.col + " " + word.orientation + " " + word.word);
+                }
+                System.exit(1);
+            }
+        }
+
+        System.out.println("Checked layouts: " + layoutCount + " | Mismatches: 0 | Seed: " + seed);
+    }
+
+    /**
+     * Generates a random layout in the grid coordinates
+     * @param random source of the layout
+     * @return words in the grid coordinates
+     */
+    private static List<CrosswordWord> generateLayout(Random random) {
+        int wordCount = 1 + random.nextInt(MAX_WORD_COUNT);
+        List<CrosswordWord> placedWords = new ArrayList<>(wordCount);
+
+        for (int i = 0; i < wordCount; i++) {
+            int orientation = random.nextInt(2);
+            char[] chars = randomChars(random);
+            int row;
+            int col;
+
+            int placement = placedWords.isEmpty() ? 0 : random.nextInt(4);
+            if (placement == 1) {
+                // Crossing a char of the placed word, so the crossing word rules are exercised
+                CrosswordWord other = placedWords.get(random.nextInt(placedWords.size()));
+                int otherIndex = random.nextInt(other.word.length());
+                int index = random.nextInt(chars.length);
+                chars[index] = other.word.charAt(otherIndex);
+                int crossRow = other.row + (other.orientation == 0 ? 0 : otherIndex);
+                int crossCol = other.col + (other.orientation == 1 ? 0 : otherIndex);
+                row = crossRow - (orientation == 0 ? 0 : index);
+                col = crossCol - (orientation == 1 ? 0 : index);
+            } else if (placement == 2) {
+                // Sharing the first cell with the placed word
+                CrosswordWord other = placedWords.get(random.nextInt(placedWords.size()));
+                row = other.row;
+                col = other.col;
+            } else if (placement == 3) {
+                // Next to the placed word, so the neighbouring words rules are exercised
+                CrosswordWord other = placedWords.get(random.nextInt(placedWords.size()));
+                row = other.row + random.nextInt(3) - 1;
+                col = other.col + random.nextInt(3) - 1;
+            } else {
+                // Anywhere, including out of the grid
+                row = random.nextInt(GRID_SIZE + 2 * OUT_OF_GRID_MARGIN) - OUT_OF_GRID_MARGIN;
+                col = random.nextInt(GRID_SIZE + 2 * OUT_OF_GRID_MARGIN) - OUT_OF_GRID_MARGIN;
+            }
+
+            placedWords.add(new CrosswordWord(new String(chars), row, col, orientation));
+        }
+
+        return placedWords;
+    }
+
+    /**
+     * Generates the chars of a random word
+     * @param random source of the word
+     * @return chars of the word, at least two
+     */
+    private static char[] randomChars(Random random) {
+        char[] chars = new char[2 + random.nextInt(MAX_WORD_LENGTH - 1)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+        }
+        return chars;
+    }
+}
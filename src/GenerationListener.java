@@ -0,0 +1,11 @@
+@FunctionalInterface
+public interface GenerationListener {
+    /**
+     * Called by the generator after each generation
+     * @param generation number of generations produced, including restarts
+     * @param bestFitness best fitness in the current population
+     * @param averageFitness average fitness of the current population
+     * @param diversity average normalized distance between the layouts, from 0 (identical) to 1
+     */
+    void onGeneration(long generation, int bestFitness, double averageFitness, double diversity);
+}
@@ -0,0 +1,322 @@
+public final class GeneratorOptions {
+    private static final GeneratorOptions DEFAULTS = new GeneratorOptions(new Builder());
+
+    private final int populationSize; // size of the population
+    private final double crossoverRate; // crossover rate
+    private final double tournamentRatio; // tournament ratio
+    private final double mutationRate; // mutation rate
+    private final int restartGeneration; // restart generation threshold
+    private final long timeoutMillis; // time budget per solve
+    private final long maxGenerations; // generation budget per solve, including restarts
+    private final ReplacementPolicy replacementPolicy; // policy forming the next generation
+    private final double sharingRadius; // normalized niche radius for the fitness sharing
+    private final GenerationListener listener; // per-generation statistics receiver, may be null
+    private final FitnessEvaluator fitnessEvaluator; // evaluator of the layouts fitness
+
+    /**
+     * Validating constructor
+     * @param builder parameter values
+     */
+    private GeneratorOptions(Builder builder) {
+        if (builder.populationSize < 2) {
+            throw new IllegalArgumentException("Population size must be at least 2: " + builder.populationSize);
+        }
+        if (builder.crossoverRate < 0 || builder.crossoverRate > 1) {
+            throw new IllegalArgumentException("Crossover rate must be in [0; 1]: " + builder.crossoverRate);
+        }
+        if (builder.tournamentRatio < 0 || builder.tournamentRatio > 1) {
+            throw new IllegalArgumentException("Tournament ratio must be in [0; 1]: " + builder.tournamentRatio);
+        }
+        if (builder.mutationRate < 0 || builder.mutationRate > 1) {
+            throw new IllegalArgumentException("Mutation rate must be in [0; 1]: " + builder.mutationRate);
+        }
+        if (builder.restartGeneration < 1) {
+            throw new IllegalArgumentException("Restart generation must be positive: " + builder.restartGeneration);
+        }
+        if (builder.timeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative: " + builder.timeoutMillis);
+        }
+        if (builder.maxGenerations < 0) {
+            throw new IllegalArgumentException("Generation budget must not be negative: " + builder.maxGenerations);
+        }
+        if (builder.replacementPolicy == null) {
+            throw new IllegalArgumentException("Replacement policy must not be null");
+        }
+        if (builder.sharingRadius <= 0 || builder.sharingRadius > 1) {
+            throw new IllegalArgumentException("Sharing radius must be in (0; 1]: " + builder.sharingRadius);
+        }
+        if (builder.fitnessEvaluator == null) {
+            throw new IllegalArgumentException("Fitness evaluator must not be null");
+        }
+
+        this.populationSize = builder.populationSize;
+        this.crossoverRate = builder.crossoverRate;
+        this.tournamentRatio = builder.tournamentRatio;
+        this.mutationRate = builder.mutationRate;
+        this.restartGeneration = builder.restartGeneration;
+        this.timeoutMillis = builder.timeoutMillis;
+        this.maxGenerations = builder.maxGenerations;
+        this.replacementPolicy = builder.replacementPolicy;
+        this.sharingRadius = builder.sharingRadius;
+        this.listener = builder.listener;
+        this.fitnessEvaluator = builder.fitnessEvaluator;
+    }
+
+    /**
+     * Gets the default genetic algorithm parameters
+     * @return default options
+     */
+    public static GeneratorOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Gets the size of the population
+     * @return size of the population
+     */
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    /**
+     * Gets the probability of the crossover for each child
+     * @return crossover rate
+     */
+    public double getCrossoverRate() {
+        return crossoverRate;
+    }
+
+    /**
+     * Gets the tournament size relative to the population size
+     * @return tournament ratio
+     */
+    public double getTournamentRatio() {
+        return tournamentRatio;
+    }
+
+    /**
+     * Gets the probability of the mutation for each child
+     * @return mutation rate
+     */
+    public double getMutationRate() {
+        return mutationRate;
+    }
+
+    /**
+     * Gets the number of generations before the population restart
+     * @return restart generation threshold
+     */
+    public int getRestartGeneration() {
+        return restartGeneration;
+    }
+
+    /**
+     * Gets the time budget per solve
+     * @return time budget in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Gets the generation budget per solve, including restarts
+     * @return maximal number of generations
+     */
+    public long getMaxGenerations() {
+        return maxGenerations;
+    }
+
+    /**
+     * Gets the policy forming the next generation
+     * @return replacement policy
+     */
+    public ReplacementPolicy getReplacementPolicy() {
+        return replacementPolicy;
+    }
+
+    /**
+     * Gets the niche radius for the fitness sharing
+     * @return normalized distance, beyond which layouts do not share fitness
+     */
+    public double getSharingRadius() {
+        return sharingRadius;
+    }
+
+    /**
+     * Gets the receiver of the per-generation statistics
+     * @return statistics receiver, null if disabled
+     */
+    public GenerationListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Gets the evaluator of the layouts fitness
+     * @return fitness evaluator
+     */
+    public FitnessEvaluator getFitnessEvaluator() {
+        return fitnessEvaluator;
+    }
+
+    /**
+     * Creates a copy of the options with the given population size
+     * @param populationSize size of the population
+     * @return updated options
+     */
+    public GeneratorOptions withPopulationSize(int populationSize) {
+        Builder builder = new Builder(this);
+        builder.populationSize = populationSize;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given crossover rate
+     * @param crossoverRate crossover rate
+     * @return updated options
+     */
+    public GeneratorOptions withCrossoverRate(double crossoverRate) {
+        Builder builder = new Builder(this);
+        builder.crossoverRate = crossoverRate;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given tournament ratio
+     * @param tournamentRatio tournament ratio
+     * @return updated options
+     */
+    public GeneratorOptions withTournamentRatio(double tournamentRatio) {
+        Builder builder = new Builder(this);
+        builder.tournamentRatio = tournamentRatio;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given mutation rate
+     * @param mutationRate mutation rate
+     * @return updated options
+     */
+    public GeneratorOptions withMutationRate(double mutationRate) {
+        Builder builder = new Builder(this);
+        builder.mutationRate = mutationRate;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given restart threshold
+     * @param restartGeneration number of generations before the population restart
+     * @return updated options
+     */
+    public GeneratorOptions withRestartGeneration(int restartGeneration) {
+        Builder builder = new Builder(this);
+        builder.restartGeneration = restartGeneration;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given time budget
+     * @param timeoutMillis time budget per solve in milliseconds
+     * @return updated options
+     */
+    public GeneratorOptions withTimeoutMillis(long timeoutMillis) {
+        Builder builder = new Builder(this);
+        builder.timeoutMillis = timeoutMillis;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given generation budget
+     * @param maxGenerations generation budget per solve, including restarts
+     * @return updated options
+     */
+    public GeneratorOptions withMaxGenerations(long maxGenerations) {
+        Builder builder = new Builder(this);
+        builder.maxGenerations = maxGenerations;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given replacement policy
+     * @param replacementPolicy policy forming the next generation
+     * @return updated options
+     */
+    public GeneratorOptions withReplacementPolicy(ReplacementPolicy replacementPolicy) {
+        Builder builder = new Builder(this);
+        builder.replacementPolicy = replacementPolicy;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given niche radius
+     * @param sharingRadius normalized distance, beyond which layouts do not share fitness
+     * @return updated options
+     */
+    public GeneratorOptions withSharingRadius(double sharingRadius) {
+        Builder builder = new Builder(this);
+        builder.sharingRadius = sharingRadius;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given statistics receiver
+     * @param listener per-generation statistics receiver, null to disable
+     * @return updated options
+     */
+    public GeneratorOptions withListener(GenerationListener listener) {
+        Builder builder = new Builder(this);
+        builder.listener = listener;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Creates a copy of the options with the given fitness evaluator
+     * @param fitnessEvaluator evaluator of the layouts fitness, shared by the solver threads
+     * @return updated options
+     */
+    public GeneratorOptions withFitnessEvaluator(FitnessEvaluator fitnessEvaluator) {
+        Builder builder = new Builder(this);
+        builder.fitnessEvaluator = fitnessEvaluator;
+        return new GeneratorOptions(builder);
+    }
+
+    /**
+     * Mutable parameter values of the options being created
+     */
+    private static final class Builder {
+        private int populationSize = 100; // size of the population
+        private double crossoverRate = 0.9; // crossover rate
+        private double tournamentRatio = 0.1; // tournament ratio
+        private double mutationRate = 1; // mutation rate
+        private int restartGeneration = 100000; // restart generation threshold
+        private long timeoutMillis = 5 * 60 * 1000; // time budget per solve
+        private long maxGenerations = 10000000; // generation budget per solve, including restarts
+        private ReplacementPolicy replacementPolicy = ReplacementPolicy.GENERATIONAL; // policy forming the next generation
+        private double sharingRadius = 0.1; // normalized niche radius for the fitness sharing
+        private GenerationListener listener; // per-generation statistics receiver, may be null
+        private FitnessEvaluator fitnessEvaluator = new ReferenceFitnessEvaluator(); // evaluator of the layouts fitness
+
+        /**
+         * Builder with the default values
+         */
+        private Builder() {
+        }
+
+        /**
+         * Builder with the values of the existing options
+         * @param options options to copy
+         */
+        private Builder(GeneratorOptions options) {
+            this.populationSize = options.populationSize;
+            this.crossoverRate = options.crossoverRate;
+            this.tournamentRatio = options.tournamentRatio;
+            this.mutationRate = options.mutationRate;
+            this.restartGeneration = options.restartGeneration;
+            this.timeoutMillis = options.timeoutMillis;
+            this.maxGenerations = options.maxGenerations;
+            this.replacementPolicy = options.replacementPolicy;
+            this.sharingRadius = options.sharingRadius;
+            this.listener = options.listener;
+            this.fitnessEvaluator = options.fitnessEvaluator;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+public final class LayoutVerifier {
+    private static final ReferenceFitnessEvaluator REFERENCE_EVALUATOR = new ReferenceFitnessEvaluator(); // rules of the solver
+
+    private LayoutVerifier() {
+    }
+
+    /**
+     * Verifies all the output files in a directory or a zip archive
+     * @param path directory or zip archive with the output files
+     * @return report with the first violation per invalid file
+     * @throws IOException if the directory or the archive cannot be listed
+     */
+    public static VerificationReport verify(Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            return verifyDirectory(path);
+        }
+        return verifyArchive(path);
+    }
+
+    /**
+     * Verifies all the output files in a directory in parallel
+     * @param directory directory with the output files
+     * @return report with the first violation per invalid file
+     * @throws IOException if the directory cannot be listed
+     */
+    public static VerificationReport verifyDirectory(Path directory) throws IOException {
+        List<Path> files;
+        try (Stream<Path> stream = Files.list(directory)) {
+            files = stream.filter(Files::isRegularFile).collect(Collectors.toList());
+        }
+
+        SortedMap<String, String> violations = new ConcurrentSkipListMap<>();
+        files.parallelStream().forEach(file -> {
+            String violation;
+            try {
+                violation = verifyContent(Files.readAllBytes(file));
+            } catch (IOException e) {
+                violation = "unreadable file: " + e.getMessage();
+            }
+
+            if (violation != null) {
+                violations.put(file.getFileName().toString(), violation);
+            }
+        });
+
+        return new VerificationReport(files.size(), violations);
+    }
+
+    /**
+     * Verifies all the output files in a zip archive in parallel
+     * @param archive zip archive with the output files
+     * @return report with the first violation per invalid file
+     * @throws IOException if the archive cannot be opened
+     */
+    public static VerificationReport verifyArchive(Path archive) throws IOException {
+        try (ZipFile zipFile = new ZipFile(archive.toFile())) {
+            List<ZipEntry> entries = zipFile.stream()
+                    .filter(entry -> !entry.isDirectory())
+                    .collect(Collectors.toList());
+
+            SortedMap<String, String> violations = new ConcurrentSkipListMap<>();
+            entries.parallelStream().forEach(entry -> {
+                String violation;
+                try (InputStream inputStream = zipFile.getInputStream(entry)) {
+                    violation = verifyContent(inputStream.readAllBytes());
+                } catch (IOException | UncheckedIOException e) {
+                    violation = "unreadable entry: " + e.getMessage();
+                }
+
+                if (violation != null) {
+                    violations.put(entry.getName(), violation);
+                }
+            });
+
+            return new VerificationReport(entries.size(), violations);
+        }
+    }
+
+    /**
+     * Rebuilds the layout from the output file content and validates it.
+     * Each line contains the row, the column, the orientation and the word separated by spaces.
+     *
+     * @param content output file content
+     * @return description of the first violation, null if the layout is valid
+     */
+    public static String verifyContent(byte[] content) {
+        String text = new String(content, StandardCharsets.UTF_8);
+        List<CrosswordWord> words = new ArrayList<>();
+
+        int lineNumber = 0;
+        int lineStart = 0;
+        while (lineStart < text.length()) {
+            int lineEnd = text.indexOf('\n', lineStart);
+            if (lineEnd < 0) {
+                lineEnd = text.length();
+            }
+            int nextLineStart = lineEnd + 1;
+            lineNumber++;
+
+            // Windows line separators
+            if (lineEnd > lineStart && text.charAt(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+
+            if (lineEnd > lineStart) {
+                CrosswordWord word = parseWord(text, lineStart, lineEnd);
+                if (word == null) {
+                    return "line " + lineNumber + ": malformed word placement";
+                }
+                words.add(word);
+            }
+
+            lineStart = nextLineStart;
+        }
+
+        if (words.isEmpty()) {
+            return "no words";
+        }
+
+        return REFERENCE_EVALUATOR.findFirstViolation(words);
+    }
+
+    /**
+     * Parses the word placement without creating the intermediate strings
+     * @param text output file content
+     * @param start start of the line, inclusive
+     * @param end end of the line, exclusive
+     * @return parsed word, null if the line is malformed
+     */
+    private static CrosswordWord parseWord(String text, int start, int end) {
+        int rowEnd = text.indexOf(' ', start);
+        int colEnd = rowEnd < 0 ? -1 : text.indexOf(' ', rowEnd + 1);
+        int orientationEnd = colEnd < 0 ? -1 : text.indexOf(' ', colEnd + 1);
+        if (orientationEnd < 0 || orientationEnd + 1 >= end) {
+            return null;
+        }
+
+        try {
+            int row = Integer.parseInt(text, start, rowEnd, 10);
+            int col = Integer.parseInt(text, rowEnd + 1, colEnd, 10);
+            int orientation = Integer.parseInt(text, colEnd + 1, orientationEnd, 10);
+            if (orientation != 0 && orientation != 1) {
+                return null;
+            }
+            return new CrosswordWord(text.substring(orientationEnd + 1, end), row, col, orientation);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -3,39 +3,50 @@ import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Main {
-    // Constants for genetic algorithm parameters
-    private static final int POPULATION_SIZE = 100; // Size of the population
-    private static final double CROSSOVER_RATE = 0.9; // Crossover rate
-    private static final double TOURNAMENT_RATIO = 0.1; // Tournament ratio
-    private static final double MUTATION_RATE = 1; // Mutation rate
-    private static final int RESTART_GENERATION = 100000; // Restart generation threshold
-    private static final Random random = new Random();
-    private static final List<String> words = new ArrayList<>(); // List of the current words
+    private static final GeneratorOptions OPTIONS = GeneratorOptions.defaults(); // Genetic algorithm parameters
     private static final String INPUTS_DIR_NAME = "inputs"; // Input directory name
     private static final String OUTPUTS_DIR_NAME = "outputs"; // Output directory name
-    private static String outputsPath = ""; // Storage for the output path
-    private static String outputFileName = ""; // Name of the current output file
 
     /**
      * Main method to start the program
-     * @param args Command line arguments (not used)
+     * @param args Command line arguments: none to solve the input files,
+     *             "corpus", a corpus file and optionally "text" or "binary" result format
+     *             to solve all of its puzzles,
+     *             "verify" and a directory or a zip archive to verify the output files
      */
     public static void main(String[] args) {
-        start();
+        if (args.length == 2 && args[0].equals("corpus")) {
+            solveCorpus(Paths.get(args[1]), false);
+        } else if (args.length == 3 && args[0].equals("corpus") && (args[2].equals("text") || args[2].equals("binary"))) {
+            solveCorpus(Paths.get(args[1]), args[2].equals("binary"));
+        } else if (args.length == 2 && args[0].equals("verify")) {
+            // Non-zero exit status lets the batch pipelines detect the failed verification
+            if (!verifyOutputs(Paths.get(args[1]))) {
+                System.exit(1);
+            }
+        } else {
+            start();
+        }
     }
 
     /**
-     * Initializes necessary directories and processes input files
-     * Launches the crossword building algorithm
+     * Creates the "outputs" directory if it doesn't exist
+     * @return path to the "outputs" directory, null if it cannot be created
      */
-    private static void start() {
+    private static String createOutputsDirectory() {
         // Construct the full path to the "outputs" directory
-        outputsPath = getCurrentPath() + OUTPUTS_DIR_NAME;
+        String outputsPath = getCurrentPath() + OUTPUTS_DIR_NAME;
 
         File outputsDirectory = new File(outputsPath);
 
@@ -44,10 +55,134 @@ public class Main {
             boolean created = outputsDirectory.mkdirs();
             if (!created) {
                 System.out.println("Failed to create the 'outputs' directory.");
-                return;
+                return null;
             }
         }
 
+        return outputsPath;
+    }
+
+    /**
+     * Streams the puzzles from the corpus file into the solver.
+     * The number of puzzles in progress is limited by the number of solver threads,
+     * so only a few records are held in memory at once.
+     * All the valid layouts are appended to a single result store in the outputs directory.
+     *
+     * @param corpusPath corpus file
+     * @param isBinary flag indicating the compact binary result format
+     */
+    private static void solveCorpus(Path corpusPath, boolean isBinary) {
+        String outputsPath = createOutputsDirectory();
+        if (outputsPath == null) {
+            return;
+        }
+        Path resultsPath = Paths.get(outputsPath, getResultsFileName(corpusPath, isBinary));
+
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        Semaphore slots = new Semaphore(threadCount);
+        AtomicInteger solvedCount = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+
+        long startTime = System.currentTimeMillis();
+
+        // The corpus is opened first, so a wrong corpus path does not truncate the existing results
+        try (CorpusReader reader = new CorpusReader(corpusPath);
+             ResultSink sink = isBinary ? new BinaryResultSink(resultsPath) : new TextResultSink(resultsPath)) {
+            try {
+                CorpusRecord record;
+                while ((record = reader.next()) != null) {
+                    String puzzleId = record.getPuzzleId();
+                    if (record.getWords().isEmpty()) {
+                        System.out.println(puzzleId + ": no words");
+                        failedCount.incrementAndGet();
+                        continue;
+                    }
+
+                    CrosswordGenerator generator;
+                    try {
+                        generator = new CrosswordGenerator(record.getWords(), OPTIONS);
+                    } catch (IllegalArgumentException e) {
+                        System.out.println(puzzleId + ": " + e.getMessage());
+                        failedCount.incrementAndGet();
+                        continue;
+                    }
+
+                    // Waiting for a free solver, so the time budget starts with the solving
+                    slots.acquire();
+                    generator.generateAsync(executor)
+                            .whenComplete((result, error) -> {
+                                try {
+                                    if (error == null && result.isSolved()) {
+                                        sink.write(puzzleId, result.getLayout());
+                                        solvedCount.incrementAndGet();
+                                    } else {
+                                        String reason = error != null ? error.getMessage() : "best fitness " + result.getFitness();
+                                        System.out.println(puzzleId + ": solution not found, " + reason);
+                                        failedCount.incrementAndGet();
+                                    }
+                                } catch (IOException | IllegalArgumentException e) {
+                                    System.out.println(puzzleId + ": failed to write the result: " + e.getMessage());
+                                    failedCount.incrementAndGet();
+                                } finally {
+                                    slots.release();
+                                }
+                            });
+                }
+            } finally {
+                // Waiting for the puzzles in progress before closing the result store
+                slots.acquireUninterruptibly(threadCount);
+            }
+        } catch (IOException e) {
+            System.out.println("Failed to process the corpus: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
+        }
+
+        long elapsedTimeInSeconds = (System.currentTimeMillis() - startTime) / 1000;
+        System.out.println("Solved puzzles: " + solvedCount.get() + " | Failed puzzles: " + failedCount.get());
+        System.out.println("Time elapsed: " + formatTime(elapsedTimeInSeconds));
+    }
+
+    /**
+     * Verifies the output files and prints the first violation per invalid file
+     * @param path directory or zip archive with the output files
+     * @return true if all the files are valid, false if any file is invalid or the outputs cannot be read
+     */
+    private static boolean verifyOutputs(Path path) {
+        long startTime = System.currentTimeMillis();
+
+        VerificationReport report;
+        try {
+            report = LayoutVerifier.verify(path);
+        } catch (IOException e) {
+            System.out.println("Failed to read the outputs: " + e.getMessage());
+            return false;
+        }
+
+        for (Map.Entry<String, String> violation : report.getViolations().entrySet()) {
+            System.out.println(violation.getKey() + ": " + violation.getValue());
+        }
+
+        long elapsedTimeInSeconds = (System.currentTimeMillis() - startTime) / 1000;
+        System.out.println("Verified files: " + report.getFileCount() + " | Invalid files: " + report.getViolations().size());
+        System.out.println("Time elapsed: " + formatTime(elapsedTimeInSeconds));
+
+        return report.isValid();
+    }
+
+    /**
+     * Initializes necessary directories and processes input files
+     * Launches the crossword building algorithm
+     */
+    private static void start() {
+        String outputsPath = createOutputsDirectory();
+        if (outputsPath == null) {
+            return;
+        }
+
         // Getting all the files from the input directory
         File[] files = getAllFiles();
 
@@ -55,15 +190,13 @@ public class Main {
         if (files != null) {
             for (File file : files) {
                 if (file.isFile()) {
-                    outputFileName = getOutputFileName(file);
+                    File outputFile = new File(outputsPath, getOutputFileName(file));
+                    List<String> words = new ArrayList<>();
 
                     // If words are read successfully, launch the algorithm
-                    if (readAllWordsInFile(file)) {
-                        buildCrossword();
+                    if (readAllWordsInFile(file, words)) {
+                        buildCrossword(words, outputFile);
                     }
-
-                    // Update the list of words when the file is processed
-                    words.clear();
                 }
             }
         } else {
@@ -73,69 +206,49 @@ public class Main {
 
     /**
      * Builds the crossword using a genetic algorithm
+     * @param words list of the crossword words
+     * @param outputFile file for the valid layout
      */
-    private static void buildCrossword() {
-        // The initial population initialization
-        List<CrosswordLayout> population = initializePopulation();
-
-        int generation = 0;
-        int iteration = 0;
-        System.out.println("Iteration: " + iteration);
-
+    private static void buildCrossword(List<String> words, File outputFile) {
         // Record the start time
         long startTime = System.currentTimeMillis();
 
-        // Staring the loop of finding the optimal solution
-        while (true) {
-            // If the number of generations exceeds the allowed threshold
-            // the algorithm is being restarted, where iteration indicates
-            // the number of restarts
-            if (generation >= RESTART_GENERATION) {
-                population = initializePopulation();
-                generation = 0;
-                iteration++;
-                System.out.println("Iteration: " + iteration);
-            }
-
-            // Getting the best layout from the population
-            CrosswordLayout bestLayout = getBestLayout(population);
-
-            // Getting the words layout from the population
-            CrosswordLayout worstLayout = getWorstLayout(population);
+        SolveResult result;
+        try {
+            result = new CrosswordGenerator(words, OPTIONS).generate();
+        } catch (IllegalArgumentException e) {
+            // The invalid input file is skipped, the rest of the files are still processed
+            System.out.println("Invalid input: " + e.getMessage() + "\n");
+            return;
+        }
 
-            // Average fitness calculation
-            double avgFitness = getAverageFitness(population);
+        // Collecting the time statistics per test
+        long endTime = System.currentTimeMillis();
+        long elapsedTimeInSeconds = (endTime - startTime) / 1000;
+        String formattedTime = formatTime(elapsedTimeInSeconds);
 
-            // If the best layout reaches 0 fitness, the algorithm terminates
-            // providing the valid crossword layout
-            if (bestLayout.getCurrentFitness() <= 0) {
-                // Collecting the time statistics per test
-                long endTime = System.currentTimeMillis();
-                long elapsedTimeInSeconds = (endTime - startTime) / 1000;
-                String formattedTime = formatTime(elapsedTimeInSeconds);
+        // Results output
+        System.out.println("Iterations: " + (result.getRestarts() + 1) + " | Generations: " + result.getGenerations() + " | Best fitness: " + result.getFitness());
+        System.out.println("Time elapsed: " + formattedTime);
+        result.getLayout().printCrossword();
 
-                // Results output
-                System.out.println("Generation: " + generation + " | Average fitness: " + avgFitness + " | Worst fitness: " + worstLayout.getCurrentFitness() + " | Best fitness: " + bestLayout.getCurrentFitness());
-                System.out.println("Time elapsed: " + formattedTime);
-                bestLayout.printCrossword();
-                System.out.println("Solution found!\n");
+        if (result.isSolved()) {
+            System.out.println("Solution found!\n");
 
-                // Writing the layout to the output file
-                writeToOutputFile(bestLayout);
-                break;
-            }
-
-            // Producing new generation in case of absence the optimal solution
-            population = produceNewGeneration(population);
-            generation++;
+            // Writing the layout to the output file
+            writeToOutputFile(result.getLayout(), outputFile);
+        } else {
+            System.out.println("Solution not found within the budget.\n");
         }
     }
 
     /**
      * Reads all words from a file and adds them to the 'words' list
      * @param file The input file
+     * @param words The list to fill with the words
+     * @return true if the file is read successfully, false otherwise
      */
-    private static boolean readAllWordsInFile(File file) {
+    private static boolean readAllWordsInFile(File file, List<String> words) {
         System.out.println("Processing file: " + file.getName());
 
         try (FileReader fileReader = new FileReader(file);
@@ -201,15 +314,29 @@ public class Main {
         return inputFileName.replace("input", "output");
     }
 
+    /**
+     * Generates the result store name based on the corpus file name
+     * @param corpusPath corpus file
+     * @param isBinary flag indicating the compact binary result format
+     * @return result store file name
+     */
+    private static String getResultsFileName(Path corpusPath, boolean isBinary) {
+        String corpusName = corpusPath.getFileName().toString();
+        int extensionStart = corpusName.lastIndexOf('.');
+        if (extensionStart > 0) {
+            corpusName = corpusName.substring(0, extensionStart);
+        }
+        return corpusName + "-results" + (isBinary ? ".bin" : ".txt");
+    }
+
     /**
      * Writes the result layout to the output file
      * @param resultLayout The crossword layout to write to the output file
+     * @param outputFile The output file
      */
-    private static void writeToOutputFile(CrosswordLayout resultLayout) {
-        File outputFile = new File(outputsPath, outputFileName);
-
+    private static void writeToOutputFile(CrosswordLayout resultLayout, File outputFile) {
         try (FileWriter fileWriter = new FileWriter(outputFile)) {
-            for (CrosswordWord word : resultLayout.words) {
+            for (CrosswordWord word : resultLayout.getPlacedWords()) {
                 // Format the word information and write it to a new line
                 String line = String.format("%d %d %d %s", word.row, word.col, word.orientation, word.word);
                 fileWriter.write(line + System.lineSeparator());
@@ -232,138 +359,4 @@ public class Main {
 
         return String.format("%02d:%02d:%02d", hours, minutes, secs);
     }
-
-    /**
-     * Produces new generation based on the current population
-     * @param population current population
-     * @return new generation
-     */
-    private static List<CrosswordLayout> produceNewGeneration(List<CrosswordLayout> population) {
-        List<CrosswordLayout> newGeneration = new ArrayList<>();
-
-        // Adding random individual to introduce some diversity
-        // to the population
-        newGeneration.add(new CrosswordLayout(words));
-
-        for (int i = 1; i < POPULATION_SIZE; i++) {
-            // Parents selection
-            CrosswordLayout parent1 = selectParent(population);
-            CrosswordLayout parent2 = selectParent(population);
-
-            // Crossover
-            CrosswordLayout child = crossover(parent1, parent2);
-
-            // Mutation
-            mutate(child);
-
-            // Appending new generation with the new individual
-            newGeneration.add(child);
-        }
-
-        return newGeneration;
-    }
-
-    /**
-     * Initializes population with the current list of words
-     * @return initial population
-     */
-    private static List<CrosswordLayout> initializePopulation() {
-        List<CrosswordLayout> population = new ArrayList<>();
-        for (int i = 0; i < POPULATION_SIZE; i++) {
-            population.add(new CrosswordLayout(words));
-        }
-        return population;
-    }
-
-    /**
-     * Calculates the average fitness for the particular population
-     * @param population current population
-     * @return average fitness of the current population
-     */
-    private static double getAverageFitness(List<CrosswordLayout> population) {
-        int totalFitness = 0;
-
-        for (CrosswordLayout crosswordLayout : population) {
-            totalFitness += crosswordLayout.getCurrentFitness();
-        }
-
-        return (double)totalFitness / population.size();
-    }
-
-    /**
-     * Finding the best layout with the minimal fitness value
-     * @param population current population
-     * @return best current crossword layout
-     */
-    private static CrosswordLayout getBestLayout(List<CrosswordLayout> population) {
-        CrosswordLayout bestLayout = population.get(0);
-        for (CrosswordLayout layout : population) {
-            if (layout.getCurrentFitness() < bestLayout.getCurrentFitness()) {
-                bestLayout = layout;
-            }
-        }
-        return bestLayout;
-    }
-
-    /**
-     * Finding the worst layout with the maximal fitness value
-     * @param population current population
-     * @return worst crossword layout
-     */
-    private static CrosswordLayout getWorstLayout(List<CrosswordLayout> population) {
-        CrosswordLayout worstLayout = population.get(0);
-        for (CrosswordLayout layout : population) {
-            if (layout.getCurrentFitness() > worstLayout.getCurrentFitness()) {
-                worstLayout = layout;
-            }
-        }
-        return worstLayout;
-    }
-
-    /**
-     * Selects parent based on the roulette tournament principle.
-     * Random sample is chosen from the current population.
-     * The best individual from the sample have a right to become a parent.
-     * @param population current population
-     * @return selected parent
-     */
-    private static CrosswordLayout selectParent(List<CrosswordLayout> population) {
-        // Forming a sample tournament size based on tournament ratio
-        int tournamentSize = (int)(POPULATION_SIZE * TOURNAMENT_RATIO);
-
-        // Selecting random species to the tournament
-        // Finding the optimal local layout
-        CrosswordLayout bestLayout = population.get(random.nextInt(population.size()));
-        for (int i = 1; i < tournamentSize; i++) {
-            CrosswordLayout candidate = population.get(random.nextInt(population.size()));
-            if (candidate.getCurrentFitness() < bestLayout.getCurrentFitness()) {
-                bestLayout = candidate;
-            }
-        }
-        return bestLayout;
-    }
-
-    /**
-     * Crossover of two parents with a declared crossover rate
-     * @param parent1 1st parent layout
-     * @param parent2 2d parent layout
-     * @return offspring or the copy of the parent
-     */
-    private static CrosswordLayout crossover(CrosswordLayout parent1, CrosswordLayout parent2) {
-        if (random.nextDouble() < CROSSOVER_RATE) {
-            return parent1.crossover(parent2);
-        } else {
-            return parent1.copy();
-        }
-    }
-
-    /**
-     * Mutation of the crossword with a declared mutation rate
-     * @param layout mutating crossword layout
-     */
-    private static void mutate(CrosswordLayout layout) {
-        if (random.nextDouble() < MUTATION_RATE) {
-            layout.mutate();
-        }
-    }
 }
\ No newline at end of file
@@ -0,0 +1,376 @@
+import java.util.List;
+
+public class ReferenceFitnessEvaluator implements FitnessEvaluator {
+    static final int PENALTY = 10; // penalty amount for the rules violation
+    private static final int GRID_SIZE = CrosswordLayout.GRID_SIZE; // size of the layout
+
+    /**
+     * Validates the words given in the grid coordinates, e.g. read from an output file.
+     * The rules are checked one by one, the grid is filled by the overlap check.
+     *
+     * @param placedWords words in the grid coordinates
+     * @return description of the first violated rule, null if the crossword is valid
+     */
+    public String findFirstViolation(List<CrosswordWord> placedWords) {
+        char[][] grid = new char[GRID_SIZE][GRID_SIZE];
+
+        if (boundsCheck(placedWords) > 0) {
+            return "word out of the grid";
+        }
+        if (overlapCheck(placedWords, grid) > 0) {
+            return "overlapping words with different chars";
+        }
+        if (connectivityCheck(grid) > 0) {
+            return "disconnected words";
+        }
+        if (neighbouringWordsCheck(placedWords, grid) > 0) {
+            return "wrongly adjacent words";
+        }
+        return null;
+    }
+
+    /**
+     * Clears the grid from the words
+     * @param grid grid to clear
+     */
+    private static void resetGrid(char[][] grid) {
+        for (int i = 0; i < GRID_SIZE; i++) {
+            for (int j = 0; j < GRID_SIZE; j++) {
+                grid[i][j] = '-';
+            }
+        }
+    }
+
+    /**
+     * Calculates fitness of the crossword
+     * @param placedWords words in the grid coordinates
+     * @return fitness of the crossword
+     */
+    @Override
+    public int evaluate(List<CrosswordWord> placedWords) {
+        // The grid is created per evaluation, so the evaluator may be shared by the threads
+        char[][] grid = new char[GRID_SIZE][GRID_SIZE];
+        int fitness = 0;
+
+        fitness += overlapCheck(placedWords, grid); // penalty for the overlapping words
+        fitness += connectivityCheck(grid); // penalty for each disconnected part
+        fitness += neighbouringWordsCheck(placedWords, grid); // penalty for wrongly adjacent words
+        fitness += boundsCheck(placedWords); // penalty for the chars out of the grid
+
+        return fitness;
+    }
+
+    /**
+     * Checks if the current coordinate in the bounds of grid
+     * @param row rows coordinate
+     * @param col columns coordinate
+     * @return true if the char in bounds, false otherwise
+     */
+    private static boolean charInBounds(int row, int col) {
+        return row >= 0 && row < GRID_SIZE && col >= 0 && col < GRID_SIZE;
+    }
+
+    /**
+     * Searches for the word by given parameters
+     * @param placedWords words in the grid coordinates
+     * @param row rows coordinate
+     * @param col columns coordinate
+     * @param orientation orientation of the word
+     * @return word corresponding to the parameters, null if not found
+     */
+    private static CrosswordWord getWordByCoordinates(List<CrosswordWord> placedWords, int row, int col, int orientation) {
+        for (CrosswordWord word: placedWords) {
+            if (word.row == row && word.col == col && word.orientation == orientation) {
+                return word;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Checks for existence of the crossing word.
+     * Goes to the start of the neighbouring words and checks if the unifying word exists.
+     *
+     * @param placedWords words in the grid coordinates
+     * @param grid grid filled with the words
+     * @param currentWord word, having a neighbour
+     * @param isFirstChar flag indicating the position of the word search
+     * @return true if the crossing word exists, false otherwise
+     */
+    private static boolean isCrossingWordAbsent(List<CrosswordWord> placedWords, char[][] grid, CrosswordWord currentWord, boolean isFirstChar) {
+        int row;
+        int col;
+        // If the current word is horizontal, the vertical crossing word is needed
+        if (currentWord.orientation == 0) {
+            row = currentWord.row - 1;
+            if (isFirstChar) {
+                col = currentWord.col;
+            } else {
+                col = currentWord.col + currentWord.word.length() - 1;
+            }
+
+            while (charInBounds(row, col) && grid[row][col] != '-') {
+                CrosswordWord crossingWord = getWordByCoordinates(placedWords, row, col, 1);
+
+                if (crossingWord != null && (crossingWord.row + crossingWord.word.length() - 1) >= currentWord.row) {
+                    return false;
+                }
+
+                row -= 1;
+            }
+
+        } else { // if the current word is vertical, the horizontal crossing word is needed
+            if (isFirstChar) {
+                row = currentWord.row;
+            } else {
+                row = currentWord.row + currentWord.word.length() - 1;
+            }
+
+            col = currentWord.col - 1;
+            while (charInBounds(row, col) && grid[row][col] != '-') {
+                CrosswordWord crossingWord = getWordByCoordinates(placedWords, row, col, 0);
+
+                if (crossingWord != null && (crossingWord.col + crossingWord.word.length() - 1) >= currentWord.col) {
+                    return false;
+                }
+
+                col -= 1;
+            }
+
+        }
+
+        return true;
+    }
+
+    /**
+     * Neighbouring words validation
+     * @param placedWords words in the grid coordinates
+     * @param grid grid filled with the words
+     * @return penalty value for the invalid words neighborhood
+     */
+    private static int neighbouringWordsCheck(List<CrosswordWord> placedWords, char[][] grid) {
+        int penalty = 0;
+
+        for (CrosswordWord word : placedWords) {
+            char[] charArray = word.word.toCharArray();
+
+            // Counters of adjacent chars by all the directions
+            int adjCharCounterSideUp = 0;
+            int adjCharCounterSideDown = 0;
+            int adjCharCounterSideLeft = 0;
+            int adjCharCounterSideRight = 0;
+
+            for (int charIdx = 0; charIdx < charArray.length; charIdx++) {
+                int row;
+                int col;
+
+                // If the word is horizontal
+                if (word.orientation == 0) {
+                    row = word.row; // row is constant
+                    col = word.col + charIdx; // traverse through the columns
+
+                    if (charInBounds(row, col)) {
+                        // First char check
+                        if (charIdx == 0) {
+                            // Check for the adjacent word from the left side
+                            if (charInBounds(row, col - 1) && grid[row][col - 1] != '-') {
+                                penalty += PENALTY; // penalty for adjacent word from the left
+                            }
+
+                            // Check for correctness neighbour from the top, if exists
+                            if (charInBounds(row - 1, col) && grid[row - 1][col] != '-') {
+                                if (isCrossingWordAbsent(placedWords, grid, word, true)) {
+                                    penalty += PENALTY; // penalty for the forming new word
+                                }
+                            }
+                        }
+                        // Last char check
+                        else if (charIdx == charArray.length - 1) {
+                            // Check for the adjacent word from the right side
+                            if (charInBounds(row, col + 1) && grid[row][col + 1] != '-') {
+                                penalty += PENALTY; // penalty for adjacent word from the right
+                            }
+
+                            // Check for correctness neighbour from the top, if exists
+                            if (charInBounds(row - 1, col) && grid[row - 1][col] != '-') {
+                                if (isCrossingWordAbsent(placedWords, grid, word, false)) {
+                                    penalty += PENALTY; // penalty for the forming new word
+                                }
+                            }
+                        }
+
+                        // Parallel words check
+                        if (charInBounds(row - 1, col) && grid[row - 1][col] != '-') {
+                            adjCharCounterSideUp++; // increment counter of adjacent chars from the upside
+                            if (adjCharCounterSideUp > 1) {
+                                penalty += PENALTY; // penalty for the upside adjacent word
+                            }
+                        } else if (charInBounds(row - 1, col) && grid[row - 1][col] == '-') {
+                            adjCharCounterSideUp = 0; // resetting counter if no adjacent chars
+                        }
+                        if (charInBounds(row + 1, col) && grid[row + 1][col] != '-') {
+                            adjCharCounterSideDown++; // increment counter of adjacent chars from the downside
+                            if (adjCharCounterSideDown > 1) {
+                                penalty += PENALTY; // penalty for the downside adjacent word
+                            }
+                        } else if (charInBounds(row + 1, col) && grid[row + 1][col] == '-') {
+                            adjCharCounterSideDown = 0; // resetting counter if no adjacent chars
+                        }
+                    }
+                } else { // if the word is vertical
+                    row = word.row + charIdx; // traverse through the rows
+                    col = word.col; // column is constant
+
+                    if (charInBounds(row, col)) {
+                        // First char check
+                        if (charIdx == 0) {
+                            // Check for the adjacent word from the upside
+                            if (charInBounds(row - 1, col) && grid[row - 1][col] != '-') {
+                                penalty += PENALTY; // penalty for adjacent word from the upside
+                            }
+
+                            // Check for correctness neighbour from the left, if exists
+                            if (charInBounds(row, col - 1) && grid[row][col - 1] != '-') {
+                                if (isCrossingWordAbsent(placedWords, grid, word, true)) {
+                                    penalty += PENALTY; // penalty for the forming new word
+                                }
+                            }
+                        }
+                        // Last char check
+                        else if (charIdx == charArray.length - 1) {
+                            // Check for the adjacent word from the downside
+                            if (charInBounds(row + 1, col) && grid[row + 1][col] != '-') {
+                                penalty += PENALTY; // penalty for adjacent word from the downside
+                            }
+
+                            // Check for correctness neighbour from the left, if exists
+                            if (charInBounds(row, col - 1) && grid[row][col - 1] != '-') {
+                                if (isCrossingWordAbsent(placedWords, grid, word, false)) {
+                                    penalty += PENALTY; // penalty for the forming new word
+                                }
+                            }
+                        }
+
+                        // Parallel check
+                        if (charInBounds(row, col - 1) && grid[row][col - 1] != '-') {
+                            adjCharCounterSideLeft++; // increment counter of adjacent chars from the left side
+                            if (adjCharCounterSideLeft > 1) {
+                                penalty += PENALTY; // penalty for the left side adjacent word
+                            }
+                        } else if (charInBounds(row, col - 1) && grid[row][col - 1] == '-') {
+                            adjCharCounterSideLeft = 0; // resetting counter if no adjacent chars
+                        }
+                        if (charInBounds(row, col + 1) && grid[row][col + 1] != '-') {
+                            adjCharCounterSideRight++; // increment counter of adjacent chars from the right side
+                            if (adjCharCounterSideRight > 1) {
+                                penalty += PENALTY; // penalty for the right adjacent word
+                            }
+                        } else if (charInBounds(row, col + 1) && grid[row][col + 1] == '-') {
+                            adjCharCounterSideRight = 0; // resetting counter if no adjacent chars
+                        }
+                    }
+                }
+            }
+        }
+
+        return penalty;
+    }
+
+    /**
+     * Checks for the chars not fitting the grid
+     * @param placedWords words in the grid coordinates
+     * @return penalty value for the chars out of the grid
+     */
+    private static int boundsCheck(List<CrosswordWord> placedWords) {
+        int penalty = 0;
+
+        for (CrosswordWord word : placedWords) {
+            for (int i = 0; i < word.word.length(); i++) {
+                int row = word.row + (word.orientation == 0 ? 0 : i);
+                int col = word.col + (word.orientation == 1 ? 0 : i);
+
+                if (!charInBounds(row, col)) {
+                    penalty += PENALTY; // penalty for the char out of the grid
+                }
+            }
+        }
+
+        return penalty;
+    }
+
+    /**
+     * Checks for the overlapping words
+     * @param placedWords words in the grid coordinates
+     * @param grid grid to fill with the words
+     * @return penalty value for the overlapping words
+     */
+    private static int overlapCheck(List<CrosswordWord> placedWords, char[][] grid) {
+        int penalty = 0;
+        resetGrid(grid);
+
+        // Traverse though the word list and find the wrong overlaps
+        for (CrosswordWord word : placedWords) {
+            char[] charArray = word.word.toCharArray();
+            for (int i = 0; i < charArray.length; i++) {
+                int row = word.row + (word.orientation == 0 ? 0 : i);
+                int col = word.col + (word.orientation == 1 ? 0 : i);
+
+                if (charInBounds(row, col)) {
+                    // Compare the value on the grid with the current word character
+                    if (grid[row][col] != '-' && grid[row][col] != charArray[i]) {
+                        penalty += PENALTY; // Penalty for overlapping different characters
+                    }
+                    grid[row][col] = charArray[i]; // appending the grid with a new char
+                }
+            }
+        }
+
+        return penalty;
+    }
+
+    /**
+     * Checks for the connectivity of the words
+     * @param grid grid filled with the words
+     * @return penalty value for the separated parts of the crossword
+     */
+    private static int connectivityCheck(char[][] grid) {
+        boolean[][] visited = new boolean[GRID_SIZE][GRID_SIZE];
+        int connectedComponents = 0;
+
+        // DFS algorithm usage to determine the number of separate components
+        for (int i = 0; i < GRID_SIZE; i++) {
+            for (int j = 0; j < GRID_SIZE; j++) {
+                if (!visited[i][j] && grid[i][j] != '-') {
+                    dfs(grid, i, j, visited);
+                    connectedComponents++;
+                }
+            }
+        }
+
+        // If crossword consists of more than one separated components,
+        // give penalty per each component.
+        return connectedComponents > 1 ? connectedComponents * PENALTY : 0;
+    }
+
+    /**
+     * DFS algorithm helping to determining the crossword connectivity
+     * @param grid grid filled with the words
+     * @param row rows coordinate
+     * @param col columns coordinate
+     * @param visited array of visited cells
+     */
+    private static void dfs(char[][] grid, int row, int col, boolean[][] visited) {
+        if (!charInBounds(row, col) || visited[row][col] || grid[row][col] == '-') {
+            return;
+        }
+
+        visited[row][col] = true;
+
+        // Move in all four directions
+        dfs(grid, row - 1, col, visited);
+        dfs(grid, row + 1, col, visited);
+        dfs(grid, row, col - 1, visited);
+        dfs(grid, row, col + 1, visited);
+    }
+}
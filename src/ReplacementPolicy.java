@@ -0,0 +1,18 @@
+public enum ReplacementPolicy {
+    /**
+     * The whole population is replaced by the offspring of the tournament winners
+     */
+    GENERATIONAL,
+
+    /**
+     * Generational replacement, where the tournament compares fitness multiplied
+     * by the niche count, so crowded regions of the search space lose the selection
+     */
+    FITNESS_SHARING,
+
+    /**
+     * Each offspring competes only with the most similar of its parents
+     * and replaces it if not worse
+     */
+    DETERMINISTIC_CROWDING
+}
@@ -0,0 +1,12 @@
+import java.io.Closeable;
+import java.io.IOException;
+
+public interface ResultSink extends Closeable {
+    /**
+     * Appends the solved layout to the output store
+     * @param puzzleId identifier of the puzzle
+     * @param layout solved crossword layout
+     * @throws IOException if the layout cannot be written
+     */
+    void write(String puzzleId, CrosswordLayout layout) throws IOException;
+}
@@ -0,0 +1,281 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fitness evaluator scanning the grid rows and columns as bit masks.
+ * Each row and each column of the occupied cells is a single int, so the neighbouring
+ * and connectivity rules are checked by word-wide bit operations instead of per-cell loops.
+ * Returns the same penalty as the reference evaluator.
+ */
+public class RowScanFitnessEvaluator implements FitnessEvaluator {
+    private static final int PENALTY = ReferenceFitnessEvaluator.PENALTY; // penalty amount for the rules violation
+    private static final int GRID_SIZE = CrosswordLayout.GRID_SIZE; // size of the layout, must fit an int mask
+    private static final char EMPTY = '-'; // char of the empty cell
+
+    /**
+     * Calculates fitness of the crossword
+     * @param placedWords words in the grid coordinates
+     * @return fitness of the crossword
+     */
+    @Override
+    public int evaluate(List<CrosswordWord> placedWords) {
+        // The arrays are created per evaluation, so the evaluator may be shared by the threads
+        char[] cells = new char[GRID_SIZE * GRID_SIZE];
+        Arrays.fill(cells, EMPTY);
+        int fitness = 0;
+
+        fitness += placeWords(placedWords, cells); // penalty for the overlapping words and the chars out of the grid
+
+        // Occupied cells by rows and by columns, bit i stands for the column or the row i
+        int[] rows = new int[GRID_SIZE];
+        int[] cols = new int[GRID_SIZE];
+        for (int row = 0; row < GRID_SIZE; row++) {
+            int rowStart = row * GRID_SIZE;
+            for (int col = 0; col < GRID_SIZE; col++) {
+                if (cells[rowStart + col] != EMPTY) {
+                    rows[row] |= 1 << col;
+                    cols[col] |= 1 << row;
+                }
+            }
+        }
+
+        fitness += connectivityCheck(rows); // penalty for each disconnected part
+        fitness += neighbouringWordsCheck(placedWords, rows, cols); // penalty for wrongly adjacent words
+
+        return fitness;
+    }
+
+    /**
+     * Places the words into the flat grid in the list order
+     * @param placedWords words in the grid coordinates
+     * @param cells grid cells by rows
+     * @return penalty value for the overlapping words and the chars out of the grid
+     */
+    private static int placeWords(List<CrosswordWord> placedWords, char[] cells) {
+        int penalty = 0;
+
+        for (CrosswordWord word : placedWords) {
+            for (int i = 0; i < word.word.length(); i++) {
+                int row = word.row + (word.orientation == 0 ? 0 : i);
+                int col = word.col + (word.orientation == 1 ? 0 : i);
+
+                if (row < 0 || row >= GRID_SIZE || col < 0 || col >= GRID_SIZE) {
+                    penalty += PENALTY; // penalty for the char out of the grid
+                    continue;
+                }
+
+                int cell = row * GRID_SIZE + col;
+                char c = word.word.charAt(i);
+                if (cells[cell] != EMPTY && cells[cell] != c) {
+                    penalty += PENALTY; // penalty for overlapping different characters
+                }
+                cells[cell] = c;
+            }
+        }
+
+        return penalty;
+    }
+
+    /**
+     * Counts the connected parts by growing each of them row-wise until it stops changing
+     * @param rows occupied cells by rows
+     * @return penalty value for the separated parts of the crossword
+     */
+    private static int connectivityCheck(int[] rows) {
+        int[] remaining = rows.clone();
+        int[] part = new int[GRID_SIZE];
+        int connectedComponents = 0;
+
+        for (int seedRow = 0; seedRow < GRID_SIZE; seedRow++) {
+            while (remaining[seedRow] != 0) {
+                Arrays.fill(part, 0);
+                part[seedRow] = Integer.lowestOneBit(remaining[seedRow]);
+
+                // Growing to the left, right, up and down neighbours at once
+                boolean changed = true;
+                while (changed) {
+                    changed = false;
+                    for (int row = 0; row < GRID_SIZE; row++) {
+                        int mask = part[row];
+                        int grown = mask | (mask << 1) | (mask >>> 1);
+                        if (row > 0) {
+                            grown |= part[row - 1];
+                        }
+                        if (row < GRID_SIZE - 1) {
+                            grown |= part[row + 1];
+                        }
+                        grown &= remaining[row];
+
+                        if (grown != mask) {
+                            part[row] = grown;
+                            changed = true;
+                        }
+                    }
+                }
+
+                for (int row = 0; row < GRID_SIZE; row++) {
+                    remaining[row] &= ~part[row];
+                }
+                connectedComponents++;
+            }
+        }
+
+        // If crossword consists of more than one separated components,
+        // give penalty per each component.
+        return connectedComponents > 1 ? connectedComponents * PENALTY : 0;
+    }
+
+    /**
+     * Neighbouring words validation
+     * @param placedWords words in the grid coordinates
+     * @param rows occupied cells by rows
+     * @param cols occupied cells by columns
+     * @return penalty value for the invalid words neighborhood
+     */
+    private static int neighbouringWordsCheck(List<CrosswordWord> placedWords, int[] rows, int[] cols) {
+        int[][] wordStarts = getWordStarts(placedWords);
+        int penalty = 0;
+
+        for (CrosswordWord word : placedWords) {
+            int length = word.word.length();
+
+            // Along the word the "line" is the row of the horizontal word or the column of the vertical one,
+            // "across" is the position of the line
+            int[] lines = word.orientation == 0 ? rows : cols;
+            int across = word.orientation == 0 ? word.row : word.col;
+            int start = word.orientation == 0 ? word.col : word.row;
+            int end = start + length - 1;
+
+            // Chars out of the grid are skipped
+            int first = Math.max(start, 0);
+            int last = Math.min(end, GRID_SIZE - 1);
+            if (across < 0 || across >= GRID_SIZE || first > last) {
+                continue;
+            }
+
+            // First char check
+            if (start >= 0) {
+                // Adjacent word before the first char
+                if (isOccupied(lines, across, start - 1)) {
+                    penalty += PENALTY;
+                }
+
+                // Neighbour from the top or from the left, needs the crossing word
+                if (isOccupied(lines, across - 1, start) && isCrossingWordAbsent(placedWords, wordStarts, rows, cols, word, start)) {
+                    penalty += PENALTY;
+                }
+            }
+
+            // Last char check
+            if (length > 1 && end <= GRID_SIZE - 1) {
+                // Adjacent word after the last char
+                if (isOccupied(lines, across, end + 1)) {
+                    penalty += PENALTY;
+                }
+
+                // Neighbour from the top or from the left, needs the crossing word
+                if (isOccupied(lines, across - 1, end) && isCrossingWordAbsent(placedWords, wordStarts, rows, cols, word, end)) {
+                    penalty += PENALTY;
+                }
+            }
+
+            // Parallel words check: each run of the adjacent chars is penalized by its length minus one
+            int segment = (-1 >>> (31 - last)) & (-1 << first);
+            if (across > 0) {
+                penalty += getParallelPenalty(lines[across - 1] & segment);
+            }
+            if (across < GRID_SIZE - 1) {
+                penalty += getParallelPenalty(lines[across + 1] & segment);
+            }
+        }
+
+        return penalty;
+    }
+
+    /**
+     * Calculates the penalty for the adjacent chars along the word
+     * @param adjacent adjacent chars along the word as a mask
+     * @return penalty for each adjacent char but the first one of each run
+     */
+    private static int getParallelPenalty(int adjacent) {
+        int runStarts = adjacent & ~(adjacent << 1);
+        return (Integer.bitCount(adjacent) - Integer.bitCount(runStarts)) * PENALTY;
+    }
+
+    /**
+     * Checks if the cell is in bounds of grid and contains a char
+     * @param lines occupied cells by rows or by columns
+     * @param line row or column index
+     * @param position position along the line
+     * @return true if the cell is occupied, false otherwise
+     */
+    private static boolean isOccupied(int[] lines, int line, int position) {
+        return line >= 0 && line < GRID_SIZE && position >= 0 && position < GRID_SIZE
+                && (lines[line] & (1 << position)) != 0;
+    }
+
+    /**
+     * Indexes the words by their first cell, the first word in the list wins
+     * @param placedWords words in the grid coordinates
+     * @return word indexes by orientation and cell, -1 for no word
+     */
+    private static int[][] getWordStarts(List<CrosswordWord> placedWords) {
+        int[][] wordStarts = new int[2][GRID_SIZE * GRID_SIZE];
+        Arrays.fill(wordStarts[0], -1);
+        Arrays.fill(wordStarts[1], -1);
+
+        for (int i = 0; i < placedWords.size(); i++) {
+            CrosswordWord word = placedWords.get(i);
+            if (word.row >= 0 && word.row < GRID_SIZE && word.col >= 0 && word.col < GRID_SIZE) {
+                int cell = word.row * GRID_SIZE + word.col;
+                if (wordStarts[word.orientation][cell] < 0) {
+                    wordStarts[word.orientation][cell] = i;
+                }
+            }
+        }
+
+        return wordStarts;
+    }
+
+    /**
+     * Checks for existence of the crossing word.
+     * Goes to the start of the neighbouring words and checks if the unifying word exists.
+     *
+     * @param placedWords words in the grid coordinates
+     * @param wordStarts word indexes by orientation and first cell
+     * @param rows occupied cells by rows
+     * @param cols occupied cells by columns
+     * @param currentWord word, having a neighbour
+     * @param position position of the checked char along the word
+     * @return true if the crossing word is absent, false otherwise
+     */
+    private static boolean isCrossingWordAbsent(List<CrosswordWord> placedWords, int[][] wordStarts, int[] rows, int[] cols,
+                                                CrosswordWord currentWord, int position) {
+        // If the current word is horizontal, the vertical crossing word is needed going up
+        if (currentWord.orientation == 0) {
+            int col = position;
+            for (int row = currentWord.row - 1; isOccupied(rows, row, col); row--) {
+                int crossingIndex = wordStarts[1][row * GRID_SIZE + col];
+                if (crossingIndex >= 0) {
+                    CrosswordWord crossingWord = placedWords.get(crossingIndex);
+                    if (crossingWord.row + crossingWord.word.length() - 1 >= currentWord.row) {
+                        return false;
+                    }
+                }
+            }
+        } else { // if the current word is vertical, the horizontal crossing word is needed going left
+            int row = position;
+            for (int col = currentWord.col - 1; isOccupied(cols, col, row); col--) {
+                int crossingIndex = wordStarts[0][row * GRID_SIZE + col];
+                if (crossingIndex >= 0) {
+                    CrosswordWord crossingWord = placedWords.get(crossingIndex);
+                    if (crossingWord.col + crossingWord.word.length() - 1 >= currentWord.col) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+public class SolveResult {
+    private final CrosswordLayout layout; // best layout found by the solver
+    private final int fitness; // fitness of the best layout
+    private final long generations; // total number of generations produced
+    private final int restarts; // number of population restarts
+
+    /**
+     * Solve result constructor
+     * @param layout best layout found by the solver
+     * @param fitness fitness of the best layout
+     * @param generations total number of generations produced
+     * @param restarts number of population restarts
+     */
+    public SolveResult(CrosswordLayout layout, int fitness, long generations, int restarts) {
+        this.layout = layout;
+        this.fitness = fitness;
+        this.generations = generations;
+        this.restarts = restarts;
+    }
+
+    /**
+     * Gets the best layout found by the solver
+     * @return valid layout if solved, best-so-far layout otherwise
+     */
+    public CrosswordLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * Gets the fitness of the best layout
+     * @return fitness of the best layout, 0 for a valid crossword
+     */
+    public int getFitness() {
+        return fitness;
+    }
+
+    /**
+     * Gets the total number of generations produced, including restarts
+     * @return number of generations
+     */
+    public long getGenerations() {
+        return generations;
+    }
+
+    /**
+     * Gets the number of population restarts
+     * @return number of restarts
+     */
+    public int getRestarts() {
+        return restarts;
+    }
+
+    /**
+     * Checks if the solver found a valid crossword
+     * @return true if the layout is valid, false if the budget ran out
+     */
+    public boolean isSolved() {
+        return fitness <= 0;
+    }
+}
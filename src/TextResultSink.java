@@ -0,0 +1,65 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Result store in the text format. Each record starts with a header line ">puzzle-id"
+ * followed by the lines of the output file format: row, column, orientation and word.
+ */
+public class TextResultSink extends BufferedResultSink {
+    private static final int MAX_NUMBER_LENGTH = 11; // length of the longest int value with a sign
+
+    /**
+     * Text result sink constructor, the existing file is overwritten
+     * @param path output store file
+     * @throws IOException if the file cannot be opened
+     */
+    public TextResultSink(Path path) throws IOException {
+        super(path);
+    }
+
+    @Override
+    protected void writeRecord(String puzzleId, List<CrosswordWord> placedWords) throws IOException {
+        byte[] idBytes = puzzleId.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = reserve(idBytes.length + 2);
+        buffer.put((byte)'>').put(idBytes).put((byte)'\n');
+
+        for (CrosswordWord word : placedWords) {
+            byte[] wordBytes = word.word.getBytes(StandardCharsets.UTF_8);
+            buffer = reserve(3 * (MAX_NUMBER_LENGTH + 1) + wordBytes.length + 1);
+
+            // Same line as in the output file, formatted without the intermediate strings
+            putNumber(buffer, word.row);
+            buffer.put((byte)' ');
+            putNumber(buffer, word.col);
+            buffer.put((byte)' ');
+            putNumber(buffer, word.orientation);
+            buffer.put((byte)' ');
+            buffer.put(wordBytes).put((byte)'\n');
+        }
+    }
+
+    /**
+     * Puts the decimal digits of the number into the buffer
+     * @param buffer batch buffer
+     * @param value number to put
+     */
+    private static void putNumber(ByteBuffer buffer, int value) {
+        long number = value;
+        if (number < 0) {
+            buffer.put((byte)'-');
+            number = -number;
+        }
+
+        long divisor = 1;
+        while (divisor * 10 <= number) {
+            divisor *= 10;
+        }
+        while (divisor > 0) {
+            buffer.put((byte)('0' + number / divisor % 10));
+            divisor /= 10;
+        }
+    }
+}
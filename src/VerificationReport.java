@@ -0,0 +1,41 @@
+import java.util.Collections;
+import java.util.SortedMap;
+
+public class VerificationReport {
+    private final long fileCount; // number of verified files
+    private final SortedMap<String, String> violations; // first violation per invalid file
+
+    /**
+     * Verification report constructor
+     * @param fileCount number of verified files
+     * @param violations first violation per invalid file, sorted by the file name
+     */
+    public VerificationReport(long fileCount, SortedMap<String, String> violations) {
+        this.fileCount = fileCount;
+        this.violations = Collections.unmodifiableSortedMap(violations);
+    }
+
+    /**
+     * Gets the number of verified files
+     * @return number of files
+     */
+    public long getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * Gets the first violation of each invalid file
+     * @return violation descriptions by the file name
+     */
+    public SortedMap<String, String> getViolations() {
+        return violations;
+    }
+
+    /**
+     * Checks if all the files are valid
+     * @return true if no violations found, false otherwise
+     */
+    public boolean isValid() {
+        return violations.isEmpty();
+    }
+}